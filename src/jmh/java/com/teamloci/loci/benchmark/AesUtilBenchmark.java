@@ -0,0 +1,31 @@
+package com.teamloci.loci.benchmark;
+
+import com.teamloci.loci.global.util.AesUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AesUtilBenchmark {
+
+    private static final String PHONE_NUMBER = "+821012345678";
+
+    private AesUtil aesUtil;
+
+    @Setup
+    public void setUp() {
+        aesUtil = new AesUtil(BenchmarkFixtures.SECRET_KEY);
+    }
+
+    @Benchmark
+    public String hash() {
+        return aesUtil.hash(PHONE_NUMBER);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return aesUtil.encrypt(PHONE_NUMBER);
+    }
+}
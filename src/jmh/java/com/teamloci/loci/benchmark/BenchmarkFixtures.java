@@ -0,0 +1,66 @@
+package com.teamloci.loci.benchmark;
+
+import com.teamloci.loci.domain.MediaType;
+import com.teamloci.loci.domain.Post;
+import com.teamloci.loci.domain.PostCollaborator;
+import com.teamloci.loci.domain.PostMedia;
+import com.teamloci.loci.domain.User;
+
+import java.lang.reflect.Field;
+
+final class BenchmarkFixtures {
+
+    static final String SECRET_KEY = "BenchmarkSecretKeyForJwtTokenProvider1234567890";
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(Long id, String nickname) {
+        User user = User.builder()
+                .handle("user_" + id)
+                .nickname(nickname)
+                .profileUrl("https://loci-assets.s3.ap-northeast-2.amazonaws.com/profiles/" + id + ".jpg")
+                .phoneSearchHash("hash-" + id)
+                .countryCode("KR")
+                .build();
+        setId(user, id);
+        return user;
+    }
+
+    static Post post(Long id, int mediaCount, int collaboratorCount) {
+        Post post = Post.builder()
+                .user(user(id, "작성자" + id))
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .locationName("서울시청")
+                .beaconId("8930e1d8a2fffff")
+                .isAutoArchive(true)
+                .build();
+        setId(post, id);
+
+        for (int i = 0; i < mediaCount; i++) {
+            post.addMedia(PostMedia.builder()
+                    .mediaUrl("https://loci-assets.s3.ap-northeast-2.amazonaws.com/posts/" + id + "_" + i + ".jpg")
+                    .mediaType(MediaType.IMAGE)
+                    .sortOrder(i)
+                    .build());
+        }
+        for (int i = 0; i < collaboratorCount; i++) {
+            post.addCollaborator(PostCollaborator.builder()
+                    .user(user(1000L + i, "공동작업자" + i))
+                    .build());
+        }
+        return post;
+    }
+
+    // 엔티티 ID 는 DB 가 채우므로 벤치마크에서는 리플렉션으로 넣는다
+    private static void setId(Object entity, Long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.teamloci.loci.benchmark;
+
+import com.teamloci.loci.global.util.GeoUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GeoUtilsBenchmark {
+
+    private GeoUtils geoUtils;
+    private String beaconId;
+
+    @Setup
+    public void setUp() {
+        geoUtils = new GeoUtils();
+        beaconId = geoUtils.latLngToBeaconId(37.5665, 126.9780);
+    }
+
+    @Benchmark
+    public String latLngToBeaconId() {
+        return geoUtils.latLngToBeaconId(37.5665, 126.9780);
+    }
+
+    @Benchmark
+    public GeoUtils.Pair<Double, Double> beaconIdToLatLng() {
+        return geoUtils.beaconIdToLatLng(beaconId);
+    }
+}
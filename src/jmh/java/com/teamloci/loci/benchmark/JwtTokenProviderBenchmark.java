@@ -0,0 +1,35 @@
+package com.teamloci.loci.benchmark;
+
+import com.teamloci.loci.config.jwt.JwtTokenProvider;
+import com.teamloci.loci.domain.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(BenchmarkFixtures.SECRET_KEY, 3600);
+        user = BenchmarkFixtures.user(1L, "즐거운판다");
+        token = jwtTokenProvider.createAccessToken(user);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(user);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(token);
+    }
+}
@@ -0,0 +1,61 @@
+package com.teamloci.loci.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teamloci.loci.domain.Post;
+import com.teamloci.loci.dto.PostDto;
+import com.teamloci.loci.global.response.CustomResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PostDtoBenchmark {
+
+    // 피드 한 페이지 크기
+    @Param({"20"})
+    private int feedSize;
+
+    private Post post;
+    private PostDto.FeedResponse feed;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        post = BenchmarkFixtures.post(1L, 5, 3);
+
+        List<PostDto.PostDetailResponse> posts = new ArrayList<>();
+        for (long i = 0; i < feedSize; i++) {
+            posts.add(PostDto.PostDetailResponse.from(BenchmarkFixtures.post(i, 5, 3)));
+        }
+        feed = PostDto.FeedResponse.builder()
+                .posts(posts)
+                .hasNext(true)
+                .nextCursor(LocalDateTime.now())
+                .build();
+
+        // Spring Boot 기본 ObjectMapper 와 같은 날짜 설정
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Benchmark
+    public PostDto.PostDetailResponse postDetailResponseFrom() {
+        return PostDto.PostDetailResponse.from(post);
+    }
+
+    @Benchmark
+    public byte[] serializeFeedResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(CustomResponse.ok(feed));
+    }
+}
@@ -0,0 +1,176 @@
+package com.teamloci.loci.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.cloud.firestore.Firestore;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.teamloci.loci.config.jwt.JwtTokenProvider;
+import com.teamloci.loci.domain.User;
+import com.teamloci.loci.global.util.AesUtil;
+import com.teamloci.loci.global.util.GeoUtils;
+import com.teamloci.loci.service.NotificationService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.Answers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 HTTP 스택(필터, 직렬화, 커넥션 풀 포함)을 통해 주요 엔드포인트에 부하를 건다.
+ * Firebase/S3 는 목으로 대체하므로 외부 호출 없이 DB와 애플리케이션 코드만 측정된다.
+ * 결과는 로그와 {loadtest.report-dir}/results.json 으로 남는다.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private AesUtil aesUtil;
+    @Autowired private GeoUtils geoUtils;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+    @Autowired private ObjectMapper objectMapper;
+
+    @MockBean(answer = Answers.RETURNS_DEEP_STUBS) private Firestore firestore;
+    @MockBean private FirebaseAuth firebaseAuth;
+    @MockBean private FirebaseMessaging firebaseMessaging;
+    @MockBean private NotificationService notificationService;
+    @MockBean private S3Client s3Client;
+
+    @Value("${loadtest.seed}") private long seed;
+    @Value("${loadtest.users}") private int userCount;
+    @Value("${loadtest.friends-per-user}") private int friendsPerUser;
+    @Value("${loadtest.posts}") private int postCount;
+    @Value("${loadtest.concurrency}") private int concurrency;
+    @Value("${loadtest.requests}") private int requestCount;
+    @Value("${loadtest.warmup-requests}") private int warmupCount;
+    @Value("${loadtest.report-dir}") private String reportDir;
+
+    private LoadTestSeeder seeder;
+    private List<String> tokens;
+
+    @BeforeAll
+    void seed() {
+        seeder = new LoadTestSeeder(entityManager, new TransactionTemplate(transactionManager), aesUtil, geoUtils, seed);
+
+        List<User> users = seeder.seedUsers(userCount);
+        seeder.seedFriendships(users, friendsPerUser);
+        seeder.seedPosts(users, postCount);
+
+        tokens = users.stream().map(jwtTokenProvider::createAccessToken).toList();
+    }
+
+    @Test
+    @DisplayName("주요 엔드포인트의 p50/p99 지연과 처리량을 측정한다")
+    void measureEndpoints() throws IOException {
+        LoadDriver driver = new LoadDriver(concurrency);
+        Map<String, IntFunction<HttpRequest>> endpoints = new LinkedHashMap<>();
+
+        endpoints.put("feed", i -> get(randomToken(), "/api/v1/posts/feed?size=10"));
+        endpoints.put("map", i -> {
+            double lat = seeder.randomLatitude();
+            double lon = seeder.randomLongitude();
+            return get(randomToken(), String.format("/api/v1/posts/map?minLat=%.4f&maxLat=%.4f&minLon=%.4f&maxLon=%.4f",
+                    lat - 0.02, lat + 0.02, lon - 0.03, lon + 0.03));
+        });
+        endpoints.put("timeline", i -> get(randomToken(), String.format("/api/v1/posts/timeline?latitude=%.6f&longitude=%.6f",
+                seeder.randomLatitude(), seeder.randomLongitude())));
+        endpoints.put("match", i -> post(randomToken(), "/api/v1/friends/match", contactsBody()));
+        endpoints.put("chat-send", i -> post(randomToken(), "/api/v1/chat/messages", String.format(
+                "{\"receiverId\":%d,\"messageText\":\"부하 테스트 메시지 %d\"}", seeder.randomIndex(userCount) + 1, i)));
+        endpoints.put("chat-rooms", i -> get(randomToken(), "/api/v1/chat/rooms"));
+
+        List<LoadDriver.EndpointResult> results = new ArrayList<>();
+        endpoints.forEach((name, request) -> results.add(driver.run(
+                name,
+                IntStream.range(0, warmupCount).mapToObj(request).toList(),
+                IntStream.range(0, requestCount).mapToObj(request).toList()
+        )));
+
+        writeReport(results);
+
+        assertThat(results).allSatisfy(result -> assertThat(result.errors()).isZero());
+    }
+
+    private String randomToken() {
+        return tokens.get(seeder.randomIndex(tokens.size()));
+    }
+
+    // 주소록 50개 중 절반은 가입된 번호, 절반은 미가입 번호
+    private String contactsBody() {
+        List<String> contacts = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            contacts.add("\"" + LoadTestSeeder.localPhoneNumber(seeder.randomIndex(userCount)) + "\"");
+            contacts.add("\"" + LoadTestSeeder.localPhoneNumber(userCount + seeder.randomIndex(userCount)) + "\"");
+        }
+        return "{\"phoneNumbers\":[" + String.join(",", contacts) + "]}";
+    }
+
+    private HttpRequest get(String token, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String token, String path, String body) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private void writeReport(List<LoadDriver.EndpointResult> results) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("seed", seed);
+        report.put("users", userCount);
+        report.put("friendsPerUser", friendsPerUser);
+        report.put("posts", postCount);
+        report.put("concurrency", concurrency);
+        report.put("requests", requestCount);
+        report.put("results", results);
+
+        Path dir = Path.of(reportDir);
+        Files.createDirectories(dir);
+        Path file = dir.resolve("results.json");
+        Files.write(file, objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsBytes(report));
+        log.info("[LoadTest] 결과 저장: {}", file.toAbsolutePath());
+    }
+}
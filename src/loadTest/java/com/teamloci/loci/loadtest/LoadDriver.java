@@ -0,0 +1,109 @@
+package com.teamloci.loci.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 미리 만들어 둔 요청 목록을 고정된 동시성으로 보내고, 요청별 지연 시간을 모아 백분위를 계산한다.
+ * 워밍업 구간(JIT, 커넥션 풀, 2차 캐시 적재)은 통계에서 뺀다.
+ */
+@Slf4j
+public class LoadDriver {
+
+    private final HttpClient httpClient;
+    private final int concurrency;
+
+    public LoadDriver(int concurrency) {
+        this.concurrency = concurrency;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public EndpointResult run(String endpoint, List<HttpRequest> warmup, List<HttpRequest> requests) {
+        fire(warmup);
+
+        long startedAt = System.nanoTime();
+        Fired fired = fire(requests);
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        long[] latencies = fired.latencies();
+        Arrays.sort(latencies);
+
+        EndpointResult result = new EndpointResult(
+                endpoint,
+                requests.size(),
+                fired.errors(),
+                percentileMillis(latencies, 0.50),
+                percentileMillis(latencies, 0.99),
+                requests.size() / (elapsedNanos / 1_000_000_000.0)
+        );
+        log.info("[LoadTest] {}", result);
+        return result;
+    }
+
+    private Fired fire(List<HttpRequest> requests) {
+        long[] latencies = new long[requests.size()];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        try (ExecutorService workers = Executors.newFixedThreadPool(concurrency)) {
+            List<Future<?>> futures = new java.util.ArrayList<>();
+            for (int worker = 0; worker < concurrency; worker++) {
+                futures.add(workers.submit(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests.size()) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(requests.get(index), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[index] = System.nanoTime() - start;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("부하 요청 실행 실패", e);
+        }
+        return new Fired(latencies, errors.get());
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private record Fired(long[] latencies, int errors) {
+    }
+
+    public record EndpointResult(String endpoint, int requests, int errors,
+                                 double p50Millis, double p99Millis, double throughputPerSecond) {
+
+        @Override
+        public String toString() {
+            return String.format("%-14s requests=%d errors=%d p50=%.2fms p99=%.2fms throughput=%.1f req/s",
+                    endpoint, requests, errors, p50Millis, p99Millis, throughputPerSecond);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.teamloci.loci.loadtest;
+
+import com.teamloci.loci.domain.Friendship;
+import com.teamloci.loci.domain.FriendshipStatus;
+import com.teamloci.loci.domain.MediaType;
+import com.teamloci.loci.domain.Post;
+import com.teamloci.loci.domain.PostMedia;
+import com.teamloci.loci.domain.User;
+import com.teamloci.loci.global.util.AesUtil;
+import com.teamloci.loci.global.util.GeoUtils;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 데이터를 넣는다. 같은 seed 면 항상 같은 데이터가 만들어진다.
+ * 포스트는 서울 일대에 흩뿌려서 지도/타임라인 조회가 여러 비콘에 걸치도록 한다.
+ */
+@Slf4j
+public class LoadTestSeeder {
+
+    public static final double MIN_LAT = 37.45;
+    public static final double MAX_LAT = 37.70;
+    public static final double MIN_LON = 126.80;
+    public static final double MAX_LON = 127.15;
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final AesUtil aesUtil;
+    private final GeoUtils geoUtils;
+    private final Random random;
+
+    public LoadTestSeeder(EntityManager entityManager, TransactionTemplate transactionTemplate,
+                          AesUtil aesUtil, GeoUtils geoUtils, long seed) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.aesUtil = aesUtil;
+        this.geoUtils = geoUtils;
+        this.random = new Random(seed);
+    }
+
+    public static String phoneNumber(int index) {
+        return String.format("+8210%08d", index);
+    }
+
+    public static String localPhoneNumber(int index) {
+        return String.format("010-%04d-%04d", index / 10000, index % 10000);
+    }
+
+    public List<User> seedUsers(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int from = 0; from < count; from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, count);
+            int start = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < to; i++) {
+                    String phone = phoneNumber(i);
+                    User user = User.builder()
+                            .handle("load_user_" + i)
+                            .nickname("부하유저" + i)
+                            .phoneSearchHash(aesUtil.hash(phone))
+                            .phoneEncrypted(aesUtil.encrypt(phone))
+                            .countryCode("KR")
+                            .build();
+                    entityManager.persist(user);
+                    users.add(user);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        log.info("[LoadTest] 유저 {}명 생성", count);
+        return users;
+    }
+
+    // i 번째 유저는 i+1 ... i+friendsPerUser 번째 유저와 친구다 (중복/역방향 중복 없음)
+    public void seedFriendships(List<User> users, int friendsPerUser) {
+        int size = users.size();
+        int perUser = Math.min(friendsPerUser, (size - 1) / 2);
+        for (int from = 0; from < size; from += CHUNK_SIZE / Math.max(perUser, 1) + 1) {
+            int to = Math.min(from + CHUNK_SIZE / Math.max(perUser, 1) + 1, size);
+            int start = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < to; i++) {
+                    User requester = entityManager.getReference(User.class, users.get(i).getId());
+                    for (int offset = 1; offset <= perUser; offset++) {
+                        User receiver = entityManager.getReference(User.class, users.get((i + offset) % size).getId());
+                        entityManager.persist(Friendship.builder()
+                                .requester(requester)
+                                .receiver(receiver)
+                                .status(FriendshipStatus.FRIENDSHIP)
+                                .build());
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        log.info("[LoadTest] 친구 관계 {}건 생성", (long) size * perUser);
+    }
+
+    public void seedPosts(List<User> users, int count) {
+        for (int from = 0; from < count; from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, count);
+            int start = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < to; i++) {
+                    double latitude = MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT);
+                    double longitude = MIN_LON + random.nextDouble() * (MAX_LON - MIN_LON);
+                    User author = users.get(random.nextInt(users.size()));
+
+                    Post post = Post.builder()
+                            .user(entityManager.getReference(User.class, author.getId()))
+                            .latitude(latitude)
+                            .longitude(longitude)
+                            .locationName("부하테스트 장소 " + i)
+                            .beaconId(geoUtils.latLngToBeaconId(latitude, longitude))
+                            .isAutoArchive(true)
+                            .build();
+                    post.addMedia(PostMedia.builder()
+                            .mediaUrl("https://loadtest-bucket.s3.ap-northeast-2.amazonaws.com/posts/" + i + ".jpg")
+                            .mediaType(MediaType.IMAGE)
+                            .sortOrder(1)
+                            .build());
+                    entityManager.persist(post);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        log.info("[LoadTest] 포스트 {}건 생성", count);
+    }
+
+    public double randomLatitude() {
+        return MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT);
+    }
+
+    public double randomLongitude() {
+        return MIN_LON + random.nextDouble() * (MAX_LON - MIN_LON);
+    }
+
+    public int randomIndex(int bound) {
+        return random.nextInt(bound);
+    }
+}
@@ -0,0 +1,46 @@
+package com.teamloci.loci.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * post_media / post_collaborators 는 IDENTITY 에서 id_generator 테이블 생성기(pooled, allocationSize 50)로 바뀌었다.
+ * 기존 DB 에는 생성기 행이 없거나 MAX(id) 보다 낮아 첫 INSERT 가 기존 PK 와 부딪히므로,
+ * 웹 서버가 요청을 받기 전에 테이블을 만들고 각 행을 MAX(id) + allocationSize 이상으로 올린다.
+ * pooled 최적화기는 읽은 값 V 에 대해 (V - allocationSize, V] 구간을 쓰므로 첫 ID 는 MAX(id) + 1 이 된다.
+ * 이미 더 높은 값이면(다른 인스턴스가 사용 중) 그대로 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorInitializer implements SmartInitializingSingleton {
+
+    private static final int ALLOCATION_SIZE = 50;
+    // 생성기 행 이름(pkColumnValue) → 대상 테이블. 엔티티의 @TableGenerator 와 맞춰야 한다
+    private static final Map<String, String> GENERATORS = Map.of(
+            "post_media", "post_media",
+            "post_collaborators", "post_collaborators"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 모든 싱글톤(EntityManagerFactory 의 ddl-auto 포함)이 만들어진 뒤, 웹 서버가 뜨기 전에 실행된다
+    @Override
+    public void afterSingletonsInstantiated() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS id_generator (" +
+                "sequence_name VARCHAR(255) NOT NULL PRIMARY KEY, next_val BIGINT)");
+
+        GENERATORS.forEach((sequenceName, table) -> {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            long seed = (maxId == null ? 0L : maxId) + ALLOCATION_SIZE;
+            jdbcTemplate.update("INSERT INTO id_generator (sequence_name, next_val) VALUES (?, ?) " +
+                    "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, ?)", sequenceName, seed, seed);
+            log.info("[IdGenerator] {} 생성기를 {} 이상으로 맞춤 (MAX(id) = {})", sequenceName, seed, maxId);
+        });
+    }
+}
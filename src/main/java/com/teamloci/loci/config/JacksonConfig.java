@@ -0,0 +1,18 @@
+package com.teamloci.loci.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+@Configuration
+public class JacksonConfig {
+
+    // Accept: application/cbor 로 요청하면 같은 DTO 를 CBOR 로 내려준다.
+    // 스프링 부트가 설정한 ObjectMapper 빌더를 그대로 써서 JSON 과 필드/날짜 규칙을 맞춘다
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,40 @@
+package com.teamloci.loci.config;
+
+import com.teamloci.loci.global.metrics.QueryCountInspector;
+import com.teamloci.loci.global.metrics.S3MetricsInterceptor;
+import io.awspring.cloud.autoconfigure.core.AwsClientCustomizer;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+@Configuration
+public class MetricsConfig {
+
+    // 서비스 클래스의 @Timed 를 처리한다 (호출 수, 지연 시간, 예외 태그)
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer(QueryCountInspector queryCountInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountInspector);
+    }
+
+    @Bean
+    public AwsClientCustomizer<S3ClientBuilder> s3MetricsCustomizer(S3MetricsInterceptor s3MetricsInterceptor) {
+        return new AwsClientCustomizer<>() {
+            @Override
+            public ClientOverrideConfiguration overrideConfiguration() {
+                return ClientOverrideConfiguration.builder()
+                        .addExecutionInterceptor(s3MetricsInterceptor)
+                        .build();
+            }
+        };
+    }
+}
@@ -2,7 +2,9 @@ package com.teamloci.loci.config;
 
 import com.teamloci.loci.config.jwt.CustomAuthenticationEntryPoint;
 import com.teamloci.loci.config.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -23,6 +25,10 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
+    // 액추에이터 전용 포트. 설정되지 않으면(-1) 공개 포트에서 인증 없이 열리는 엔드포인트는 없다
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     private static final String[] SWAGGER_URL_PATTERNS = {
             "/swagger-ui/**",
             "/v3/api-docs/**",
@@ -60,6 +66,8 @@ public class SecurityConfig {
 
         http
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(CompletableFuture 등)의 재디스패치는 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/health",
                                 "/api/v1/auth/**",
@@ -67,6 +75,9 @@ public class SecurityConfig {
                                 "/api/v1/users/check-handle"
                         ).permitAll()
                         .requestMatchers(SWAGGER_URL_PATTERNS).permitAll()
+                        // Prometheus 스크레이프는 내부망에만 열린 관리 포트로 들어온 요청만 허용한다
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
                         .anyRequest().authenticated());
         http
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
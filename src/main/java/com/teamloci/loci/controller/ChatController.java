@@ -57,4 +57,16 @@ public class ChatController {
         List<ChatDto.ChatRoomResponse> chatRooms = chatService.getChatRooms(myUserId);
         return ResponseEntity.ok(CustomResponse.ok(chatRooms));
     }
+
+    @Operation(summary = "[Chat] 3. (Write) 채팅방 읽음 처리",
+            description = "채팅방(roomId)의 내 안 읽은 메시지 수를 0으로 초기화합니다.")
+    @PostMapping("/rooms/{roomId}/read")
+    public ResponseEntity<CustomResponse<Void>> markAsRead(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable String roomId
+    ) {
+        Long myUserId = getUserId(user);
+        chatService.markAsRead(myUserId, roomId);
+        return ResponseEntity.ok(CustomResponse.ok(null));
+    }
 }
\ No newline at end of file
@@ -1,7 +1,12 @@
 package com.teamloci.loci.controller;
 
 import com.teamloci.loci.dto.FileDto;
+import com.teamloci.loci.global.exception.CustomException;
+import com.teamloci.loci.global.exception.code.ErrorCode;
 import com.teamloci.loci.global.response.CustomResponse;
+import com.teamloci.loci.global.security.AuthenticatedUser;
+import com.teamloci.loci.service.ImageResizeService;
+import com.teamloci.loci.service.MediaUploadService;
 import com.teamloci.loci.service.S3UploadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,9 +16,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -24,6 +31,15 @@ import org.springframework.web.multipart.MultipartFile;
 public class FileController {
 
     private final S3UploadService s3UploadService;
+    private final ImageResizeService imageResizeService;
+    private final MediaUploadService mediaUploadService;
+
+    private Long getUserId(AuthenticatedUser user) {
+        if (user == null) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        return user.getUserId();
+    }
 
     @Operation(summary = "범용 파일 업로드 (S3)",
             description = "파일(MultipartFile)과 저장할 디렉토리(directory)를 보내면 S3에 업로드하고, S3 URL을 즉시 반환합니다. (DB 저장 X)")
@@ -51,7 +67,46 @@ public class FileController {
             @RequestPart("file") MultipartFile file
     ) {
         String fileUrl = s3UploadService.upload(file, directory);
+        imageResizeService.pregenerate(fileUrl);
 
         return ResponseEntity.ok(CustomResponse.ok(new FileDto.FileUploadResponse(fileUrl)));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Presigned 업로드 URL 발급",
+            description = """
+                파일을 서버를 거치지 않고 S3에 직접 PUT 할 수 있는 URL을 발급합니다.
+                
+                1. 이 API로 `uploadUrl`과 `fileUrl`을 받습니다.
+                2. `uploadUrl`에 요청한 `Content-Type`, 크기 그대로 파일을 `PUT` 합니다. (만료: 10분)
+                3. `/presigned/complete`로 업로드 완료를 알린 뒤에 `fileUrl`을 포스트/프로필에 사용할 수 있습니다.
+                """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "발급 성공"),
+            @ApiResponse(responseCode = "400", description = "(FILE400_2) 허용되지 않는 디렉토리, 형식 또는 크기", content = @Content)
+    })
+    @PostMapping("/presigned")
+    public ResponseEntity<CustomResponse<FileDto.PresignedUploadResponse>> issuePresignedUpload(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @Valid @RequestBody FileDto.PresignedUploadRequest request
+    ) {
+        FileDto.PresignedUploadResponse response = mediaUploadService.issue(getUserId(user), request);
+        return ResponseEntity.ok(CustomResponse.ok(response));
+    }
+
+    @Operation(summary = "Presigned 업로드 완료 확인",
+            description = "S3에 올라간 파일의 크기와 Content-Type이 발급 요청과 같은지 확인합니다. 다르면 파일을 삭제하고 400을 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "확인 완료"),
+            @ApiResponse(responseCode = "400", description = "(FILE400_3) 크기 또는 형식 불일치", content = @Content),
+            @ApiResponse(responseCode = "403", description = "(FILE403_1) 본인이 발급받은 업로드가 아님", content = @Content),
+            @ApiResponse(responseCode = "404", description = "(FILE404_1) 발급 기록 또는 S3 파일 없음", content = @Content)
+    })
+    @PostMapping("/presigned/complete")
+    public ResponseEntity<CustomResponse<FileDto.FileUploadResponse>> completePresignedUpload(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @Valid @RequestBody FileDto.UploadCompleteRequest request
+    ) {
+        FileDto.FileUploadResponse response = mediaUploadService.complete(getUserId(user), request);
+        return ResponseEntity.ok(CustomResponse.ok(response));
+    }
+}
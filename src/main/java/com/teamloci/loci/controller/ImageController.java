@@ -2,7 +2,10 @@ package com.teamloci.loci.controller;
 
 import com.teamloci.loci.global.exception.CustomException;
 import com.teamloci.loci.global.exception.code.ErrorCode;
+import com.teamloci.loci.global.util.HttpEtags;
+import com.teamloci.loci.service.ImageResizeService;
 import com.teamloci.loci.service.S3UploadService;
+import com.teamloci.loci.service.ThumbnailCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,15 +13,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Tag(name = "Image", description = "이미지 리사이징 및 최적화 API")
 @RestController
@@ -28,15 +41,25 @@ import java.io.ByteArrayOutputStream;
 public class ImageController {
 
     private final S3UploadService s3UploadService;
+    private final ImageResizeService imageResizeService;
+
+    // 너무 큰 요청은 리사이징 풀에 거대한 래스터를 만들고, 크기마다 S3/캐시 항목이 생기므로 범위를 제한한다
+    private static final int MAX_DIMENSION = 2048;
+
+    private static final CacheControl THUMBNAIL_CACHE_CONTROL = CacheControl.maxAge(30, TimeUnit.DAYS).cachePublic();
 
     @Operation(summary = "이미지 리사이징 (On-Demand)",
             description = """
                 S3에 저장된 원본 이미지를 **원하는 크기(px)**로 실시간 리사이징하여 반환합니다.
                 
                 **[기능 특징]**
-                * **지원 포맷:** JPG, PNG, WebP, GIF, BMP 등 (원본 확장자 유지)
-                * **캐싱(Caching):** 최초 요청 시 리사이징된 이미지를 S3(`resized/`)에 저장하며, 이후 요청부터는 **저장된 파일을 즉시 반환**하여 속도가 매우 빠릅니다.
+                * **지원 포맷:** JPG, PNG, WebP, GIF, BMP 등의 원본을 읽을 수 있습니다.
+                * **출력 포맷:** 투명도가 있을 수 있는 원본(PNG/GIF/WebP)은 PNG, 나머지는 JPEG로 반환합니다.
+                * **캐싱(Caching):** 최초 요청 시 리사이징된 이미지를 S3(`resized/{원본 Key}/`)에 저장하며, 이후 요청부터는 **저장된 파일을 즉시 반환**하여 속도가 매우 빠릅니다.
+                * **동시 요청:** 같은 이미지/크기에 대한 동시 요청은 한 번의 리사이징 결과를 공유하며, 작업이 몰리면 `503`을 반환합니다.
                 * **브라우저 캐시:** 30일(`max-age=2592000`) 동안 브라우저 및 CDN에 캐싱되도록 헤더를 설정합니다.
+                * **서버 캐시:** 자주 쓰이는 작은 썸네일은 메모리에, 나머지는 서버 로컬 디스크에 보관하여 S3 왕복 없이 응답합니다.
+                * **ETag:** 응답의 `ETag`를 `If-None-Match`로 보내면 변경이 없을 때 `304 Not Modified`를 반환합니다.
                 
                 **[사용법]**
                 `<img>` 태그의 `src` 속성에 아래와 같이 사용하세요.
@@ -44,65 +67,158 @@ public class ImageController {
                 """)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "이미지 반환 성공 (Binary Data)"),
-            @ApiResponse(responseCode = "400", description = "(FILE400_1) 잘못된 파일이거나 이미지가 아님"),
-            @ApiResponse(responseCode = "500", description = "(COMMON500) 변환 실패")
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "400", description = "(FILE400_1) 잘못된 파일이거나 이미지가 아님 / (COMMON400) w, h 가 1~2048 범위를 벗어남"),
+            @ApiResponse(responseCode = "500", description = "(COMMON500) 변환 실패"),
+            @ApiResponse(responseCode = "503", description = "(IMAGE503_1) 리사이징 작업 대기열 초과")
     })
     @GetMapping
-    public ResponseEntity<byte[]> resizeImage(
+    public CompletableFuture<ResponseEntity<?>> resizeImage(
             @Parameter(description = "원본 이미지의 전체 S3 URL 또는 파일 Key", required = true,
                     example = "https://loci-assets.s3.ap-northeast-2.amazonaws.com/profiles/user1.jpg")
             @RequestParam String fileUrl,
 
-            @Parameter(description = "원하는 가로 폭 (px). 비율 유지를 위해 가로/세로 중 하나만 넣어도 됨 (현재는 둘 다 필수)", required = true, example = "200")
+            @Parameter(description = "원하는 가로 폭 (px, 1~2048). 비율 유지를 위해 가로/세로 중 하나만 넣어도 됨 (현재는 둘 다 필수)", required = true, example = "200")
             @RequestParam int w,
 
-            @Parameter(description = "원하는 세로 높이 (px)", required = true, example = "200")
-            @RequestParam int h
+            @Parameter(description = "원하는 세로 높이 (px, 1~2048)", required = true, example = "200")
+            @RequestParam int h,
+
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
+        if (w < 1 || h < 1 || w > MAX_DIMENSION || h > MAX_DIMENSION) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
         String originalKey = s3UploadService.extractKeyFromUrl(fileUrl);
+        String format = ImageResizeService.outputFormat(originalKey);
+
+        return imageResizeService.resize(originalKey, w, h, format)
+                .thenCompose(thumbnail -> {
+                    ResponseEntity<?> response = toResponse(thumbnail, ifNoneMatch);
+                    if (response != null) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    // 디스크 파일이 사라졌으면 캐시 항목을 내리고 한 번만 다시 만든다
+                    return imageResizeService.reload(originalKey, w, h, format, thumbnail)
+                            .thenApply(reloaded -> {
+                                ResponseEntity<?> retried = toResponse(reloaded, ifNoneMatch);
+                                if (retried == null) {
+                                    throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+                                }
+                                return retried;
+                            });
+                });
+    }
 
-        String ext = "jpg";
-        if (originalKey.contains(".")) {
-            ext = originalKey.substring(originalKey.lastIndexOf(".") + 1).toLowerCase();
-        }
+    @Operation(summary = "원본 이미지 스트리밍",
+            description = """
+                S3에 저장된 원본 파일을 서버 메모리에 모으지 않고 그대로 스트리밍합니다.
+                
+                * **Range:** `Range: bytes=0-1023` 형태의 단일 구간 요청을 지원하며 `206 Partial Content`를 반환합니다.
+                * **ETag:** S3의 `ETag`를 그대로 내려주며, `If-None-Match`가 일치하면 `304 Not Modified`를 반환합니다.
+                """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "원본 반환 성공 (Binary Data)"),
+            @ApiResponse(responseCode = "206", description = "요청한 구간 반환 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "404", description = "(COMMON404) 파일이 존재하지 않음"),
+            @ApiResponse(responseCode = "416", description = "요청한 구간이 파일 범위를 벗어남")
+    })
+    @GetMapping("/original")
+    public ResponseEntity<StreamingResponseBody> streamOriginal(
+            @Parameter(description = "원본 이미지의 전체 S3 URL 또는 파일 Key", required = true)
+            @RequestParam String fileUrl,
 
-        String resizedKey = "resized/w" + w + "_h" + h + "/" + originalKey;
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
 
-        if (s3UploadService.doesObjectExist(resizedKey)) {
-            byte[] resizedBytes = s3UploadService.downloadFile(resizedKey);
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType("image/" + ext))
-                    .body(resizedBytes);
-        }
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String key = s3UploadService.extractKeyFromUrl(fileUrl);
 
+        // 다중 구간(multipart/byteranges)은 지원하지 않으므로 전체 응답으로 대체한다
+        String singleRange = (range != null && range.startsWith("bytes=") && !range.contains(",")) ? range : null;
+
+        ResponseInputStream<GetObjectResponse> s3Stream;
         try {
-            byte[] originalBytes = s3UploadService.downloadFile(originalKey);
+            s3Stream = s3UploadService.openStream(key, singleRange, ifNoneMatch);
+        } catch (NoSuchKeyException e) {
+            throw new CustomException(ErrorCode.NOT_FOUND);
+        } catch (S3Exception e) {
+            if (e.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .cacheControl(THUMBNAIL_CACHE_CONTROL)
+                        .build();
+            }
+            if (e.statusCode() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).build();
+            }
+            throw e;
+        }
 
-            ByteArrayInputStream inputStream = new ByteArrayInputStream(originalBytes);
-            BufferedImage originalImage = ImageIO.read(inputStream);
+        GetObjectResponse object = s3Stream.response();
+        boolean partial = object.contentRange() != null;
 
-            if (originalImage == null) {
-                throw new CustomException(ErrorCode.FILE_IS_EMPTY);
-            }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(partial ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .eTag(object.eTag())
+                .cacheControl(THUMBNAIL_CACHE_CONTROL)
+                .contentLength(object.contentLength());
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (object.contentType() != null) {
+            builder.contentType(MediaType.parseMediaType(object.contentType()));
+        }
+        if (partial) {
+            builder.header(HttpHeaders.CONTENT_RANGE, object.contentRange());
+        }
 
-            Thumbnails.of(originalImage)
-                    .size(w, h)
-                    .outputFormat(ext)
-                    .toOutputStream(outputStream);
+        return builder.body(outputStream -> {
+            try (s3Stream) {
+                s3Stream.transferTo(outputStream);
+            }
+        });
+    }
 
-            byte[] resizedBytes = outputStream.toByteArray();
+    // 디스크 계층 파일을 열 수 없으면 null 을 반환한다
+    private ResponseEntity<?> toResponse(ThumbnailCache.Thumbnail thumbnail, String ifNoneMatch) {
+        if (HttpEtags.matches(ifNoneMatch, thumbnail.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(thumbnail.getEtag())
+                    .cacheControl(THUMBNAIL_CACHE_CONTROL)
+                    .build();
+        }
 
-            s3UploadService.uploadBytes(resizedBytes, resizedKey, "image/" + ext);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(thumbnail.getEtag())
+                .cacheControl(THUMBNAIL_CACHE_CONTROL)
+                .contentType(MediaType.parseMediaType(thumbnail.getContentType()))
+                .contentLength(thumbnail.getLength());
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType("image/" + ext))
-                    .body(resizedBytes);
+        if (thumbnail.getBytes() != null) {
+            return builder.body(thumbnail.getBytes());
+        }
 
-        } catch (Exception e) {
-            log.error("이미지 리사이징 실패 [Key: {}]: {}", originalKey, e.getMessage());
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        // 디스크 계층은 힙에 올리지 않고 FileChannel.transferTo 로 바로 흘려보낸다.
+        // 캐시 교체로 파일이 지워져도 이미 연 채널은 끝까지 읽을 수 있도록 먼저 연다.
+        FileChannel opened;
+        try {
+            opened = FileChannel.open(thumbnail.getFile(), StandardOpenOption.READ);
+        } catch (IOException e) {
+            log.warn("썸네일 디스크 캐시 읽기 실패 [{}]: {}", thumbnail.getFile(), e.getMessage());
+            return null;
         }
+
+        StreamingResponseBody body = outputStream -> {
+            try (FileChannel channel = opened) {
+                WritableByteChannel target = Channels.newChannel(outputStream);
+                long position = 0;
+                while (position < thumbnail.getLength()) {
+                    position += channel.transferTo(position, thumbnail.getLength() - position, target);
+                }
+            }
+        };
+        return builder.body(body);
     }
-}
\ No newline at end of file
+}
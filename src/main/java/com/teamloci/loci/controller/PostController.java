@@ -5,6 +5,8 @@ import com.teamloci.loci.global.exception.CustomException;
 import com.teamloci.loci.global.exception.code.ErrorCode;
 import com.teamloci.loci.global.response.CustomResponse;
 import com.teamloci.loci.global.security.AuthenticatedUser;
+import com.teamloci.loci.global.util.HttpEtags;
+import com.teamloci.loci.service.ContentVersionService;
 import com.teamloci.loci.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +18,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "Post", description = "포스트(게시물) 및 타임라인, 지도 API")
 @RestController
@@ -31,6 +35,7 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final ContentVersionService contentVersionService;
 
     private Long getUserId(AuthenticatedUser user) {
         if (user == null) {
@@ -39,6 +44,22 @@ public class PostController {
         return user.getUserId();
     }
 
+    // 범위 내 지역 버전이 그대로면 마커도 그대로다. 범위가 너무 넓으면 ETag 를 쓰지 않는다(null)
+    private String mapEtag(String view, Double minLat, Double maxLat, Double minLon, Double maxLon, String accept) {
+        Map<String, Long> versions = contentVersionService.regionVersionsInBox(minLat, maxLat, minLon, maxLon);
+        if (versions == null) {
+            return null;
+        }
+        return HttpEtags.of(view, minLat, maxLat, minLon, maxLon, versions, accept);
+    }
+
+    private <T> ResponseEntity<CustomResponse<T>> okWithEtag(String etag, T result) {
+        if (etag == null) {
+            return ResponseEntity.ok(CustomResponse.ok(result));
+        }
+        return HttpEtags.ok(etag, CustomResponse.ok(result));
+    }
+
     @Operation(summary = "[Post] 1. 포스트 생성",
             description = "새로운 포스트를 생성합니다. 입력된 위치(위도, 경도)는 Uber H3 육각형 그리드 시스템(Res 9)을 통해 비콘 ID로 변환되어 저장됩니다. 'isAutoArchive'가 true(기본값)일 경우 30일 후 보관함으로 이동됩니다.")
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -199,6 +220,8 @@ public class PostController {
                 * `maxLat`: 화면 **가장 위쪽(북쪽)** 위도 (North-East Latitude)
                 * `minLon`: 화면 **가장 왼쪽(서쪽)** 경도 (South-West Longitude)
                 * `maxLon`: 화면 **가장 오른쪽(동쪽)** 경도 (North-East Longitude)
+                
+                **[캐싱]** 응답의 `ETag`를 `If-None-Match`로 보내면, 범위 내 포스트에 변경이 없을 때 `304 Not Modified`를 반환합니다.
                 """)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -223,10 +246,59 @@ public class PostController {
             @Parameter(description = "최소 위도 (SW Lat)", required = true, example = "37.5000") @RequestParam Double minLat,
             @Parameter(description = "최대 위도 (NE Lat)", required = true, example = "37.6000") @RequestParam Double maxLat,
             @Parameter(description = "최소 경도 (SW Lon)", required = true, example = "126.9000") @RequestParam Double minLon,
-            @Parameter(description = "최대 경도 (NE Lon)", required = true, example = "127.0000") @RequestParam Double maxLon
+            @Parameter(description = "최대 경도 (NE Lon)", required = true, example = "127.0000") @RequestParam Double maxLon,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
     ) {
+        String etag = mapEtag("map", minLat, maxLat, minLon, maxLon, accept);
+        if (HttpEtags.matches(ifNoneMatch, etag)) {
+            return HttpEtags.notModified(etag);
+        }
+
         List<PostDto.MapMarkerResponse> response = postService.getMapMarkers(minLat, maxLat, minLon, maxLon);
-        return ResponseEntity.ok(CustomResponse.ok(response));
+        return okWithEtag(etag, response);
+    }
+
+    @Operation(summary = "[Post] 7-1. (Map) 지도 범위 내 마커 조회 (열 단위)",
+            description = """
+                7번 API 와 같은 마커를 **열 단위 배열**로 반환합니다. 마커가 많은 화면에서 키 이름 반복이 없어 응답이 훨씬 작습니다.
+                
+                * `beaconIds[i]`, `latitudes[i]`, `longitudes[i]`, `counts[i]`, `thumbnailImageUrls[i]` 가 i 번째 마커입니다.
+                * `Accept: application/cbor` 로 요청하면 JSON 대신 CBOR 로 받을 수 있습니다. (모든 API 공통)
+                * 7번 API 와 같이 `ETag`/`If-None-Match` 를 지원합니다.
+                """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class),
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "code": "COMMON200",
+                                      "result": {
+                                        "beaconIds": ["89283082807ffff", "89283082803ffff"],
+                                        "latitudes": [37.5665, 37.5670],
+                                        "longitudes": [126.9780, 126.9790],
+                                        "counts": [5, 2],
+                                        "thumbnailImageUrls": ["https://fiv5-assets.s3.../thumb.jpg", null]
+                                      }
+                                    }
+                                    """)))
+    })
+    @GetMapping("/map/columnar")
+    public ResponseEntity<CustomResponse<PostDto.MapMarkerColumnsResponse>> getMapMarkerColumns(
+            @Parameter(description = "최소 위도 (SW Lat)", required = true, example = "37.5000") @RequestParam Double minLat,
+            @Parameter(description = "최대 위도 (NE Lat)", required = true, example = "37.6000") @RequestParam Double maxLat,
+            @Parameter(description = "최소 경도 (SW Lon)", required = true, example = "126.9000") @RequestParam Double minLon,
+            @Parameter(description = "최대 경도 (NE Lon)", required = true, example = "127.0000") @RequestParam Double maxLon,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        String etag = mapEtag("map-columnar", minLat, maxLat, minLon, maxLon, accept);
+        if (HttpEtags.matches(ifNoneMatch, etag)) {
+            return HttpEtags.notModified(etag);
+        }
+
+        PostDto.MapMarkerColumnsResponse response = postService.getMapMarkerColumns(minLat, maxLat, minLon, maxLon);
+        return okWithEtag(etag, response);
     }
 
     @Operation(summary = "[Post] 8. 친구 피드 조회 (무한 스크롤)",
@@ -237,6 +309,8 @@ public class PostController {
                 * **첫 요청:** `cursor` 파라미터 없이 요청 -> 최신 글 `size`개 반환.
                 * **다음 요청:** 응답 받은 `nextCursor` 값을 `cursor` 파라미터에 넣어서 요청.
                 * `hasNext`가 `false`면 더 이상 글이 없는 것.
+                
+                **[캐싱]** 응답의 `ETag`를 `If-None-Match`로 보내면, 친구들의 포스트에 변경이 없을 때 `304 Not Modified`를 반환합니다.
                 """)
     @GetMapping("/feed")
     public ResponseEntity<CustomResponse<PostDto.FeedResponse>> getFriendFeed(
@@ -244,10 +318,19 @@ public class PostController {
             @Parameter(description = "이전 페이지의 마지막 포스트 작성 시간 (첫 요청 시 생략)", example = "2025-11-20T10:00:00")
             @RequestParam(required = false) LocalDateTime cursor,
             @Parameter(description = "한 번에 가져올 개수 (기본값 10)", example = "10")
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
     ) {
         Long myUserId = getUserId(user);
+
+        long version = contentVersionService.version(ContentVersionService.feedKey(myUserId));
+        String etag = HttpEtags.of("feed", myUserId, version, cursor, size, accept);
+        if (HttpEtags.matches(ifNoneMatch, etag)) {
+            return HttpEtags.notModified(etag);
+        }
+
         PostDto.FeedResponse response = postService.getFriendFeed(myUserId, cursor, size);
-        return ResponseEntity.ok(CustomResponse.ok(response));
+        return HttpEtags.ok(etag, CustomResponse.ok(response));
     }
 }
\ No newline at end of file
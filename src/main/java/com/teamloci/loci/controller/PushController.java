@@ -0,0 +1,58 @@
+package com.teamloci.loci.controller;
+
+import com.teamloci.loci.global.exception.CustomException;
+import com.teamloci.loci.global.exception.code.ErrorCode;
+import com.teamloci.loci.global.security.AuthenticatedUser;
+import com.teamloci.loci.service.PushService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Push", description = "실시간 푸시(SSE) API")
+@RestController
+@RequestMapping("/api/v1/push")
+@RequiredArgsConstructor
+public class PushController {
+
+    private final PushService pushService;
+
+    private Long getUserId(AuthenticatedUser user) {
+        if (user == null) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        return user.getUserId();
+    }
+
+    @Operation(summary = "[Push] 1. 실시간 이벤트 스트림 구독",
+            description = """
+                Server-Sent Events 로 실시간 이벤트를 받습니다. 연결을 유지하는 동안 피드/채팅 목록을 폴링할 필요가 없습니다.
+                
+                **[이벤트 종류 (event 필드)]**
+                * `FEED_POST`: 친구가 새 포스트를 작성함 `{ postId, authorId, authorNickname }`
+                * `FRIEND_ADDED`: 누군가 나를 친구로 추가함 `{ userId, nickname, profileUrl }`
+                * `CHAT_ROOM_UPDATED`: 내 채팅방에 새 메시지가 옴 `{ roomId, senderId, text }`
+                * `RESYNC`: 이벤트가 너무 많이 밀려 일부를 버렸음. 피드/채팅 목록을 다시 조회하세요.
+                
+                **[연결 유지]**
+                * 25초마다 `:ping` 주석(하트비트)을 보냅니다.
+                * 30분이 지나면 서버가 연결을 닫으므로, 끊기면 다시 연결하세요. (EventSource 는 자동 재연결)
+                * 한 사용자당 동시에 3개까지 연결할 수 있으며, 넘치면 가장 오래된 연결이 닫힙니다.
+                """)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            HttpServletResponse response
+    ) {
+        Long userId = getUserId(user);
+        // 리버스 프록시(Nginx)가 이벤트를 버퍼링하지 않도록 한다
+        response.setHeader("X-Accel-Buffering", "no");
+        return pushService.connect(userId);
+    }
+}
@@ -5,6 +5,9 @@ import com.teamloci.loci.global.exception.CustomException;
 import com.teamloci.loci.global.exception.code.ErrorCode;
 import com.teamloci.loci.global.response.CustomResponse;
 import com.teamloci.loci.global.security.AuthenticatedUser;
+import com.teamloci.loci.global.util.HttpEtags;
+import com.teamloci.loci.service.ContentVersionService;
+import com.teamloci.loci.service.UserSearchService;
 import com.teamloci.loci.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,12 +21,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @Tag(name = "User", description = "사용자 프로필 정보 및 설정 API")
 @RestController
 @RequestMapping("/api/v1/users")
@@ -31,6 +37,12 @@ import org.springframework.web.multipart.MultipartFile;
 public class UserController {
 
     private final UserService userService;
+    private final ContentVersionService contentVersionService;
+    private final UserSearchService userSearchService;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    // 깊은 페이지는 인덱스를 처음부터 훑어야 하므로 앞쪽 1,000명까지만 넘겨볼 수 있게 한다
+    private static final int MAX_SEARCH_PAGE = 19;
 
     private Long getUserId(AuthenticatedUser user) {
         if (user == null) {
@@ -63,7 +75,7 @@ public class UserController {
     }
 
     @Operation(summary = "[User] 1. 내 정보 조회",
-            description = "현재 로그인한 사용자의 프로필 정보(핸들, 닉네임, 프사 등)를 조회합니다.")
+            description = "현재 로그인한 사용자의 프로필 정보(핸들, 닉네임, 프사 등)를 조회합니다. 응답의 `ETag`를 `If-None-Match`로 보내면 변경이 없을 때 `304 Not Modified`를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = CustomResponse.class),
@@ -83,11 +95,140 @@ public class UserController {
     })
     @GetMapping("/me")
     public ResponseEntity<CustomResponse<UserDto.UserResponse>> getMyInfo(
-            @AuthenticationPrincipal AuthenticatedUser user
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
     ) {
         Long userId = getUserId(user);
+
+        long version = contentVersionService.version(ContentVersionService.profileKey(userId));
+        String etag = HttpEtags.of("profile", userId, version, accept);
+        if (HttpEtags.matches(ifNoneMatch, etag)) {
+            return HttpEtags.notModified(etag);
+        }
+
         UserDto.UserResponse myInfo = userService.getMyInfo(userId);
-        return ResponseEntity.ok(CustomResponse.ok(myInfo));
+        return HttpEtags.ok(etag, CustomResponse.ok(myInfo));
+    }
+
+    @Operation(summary = "[User] 1-1. 프로필 요약 조회",
+            description = "프로필 헤더에 표시할 사용자 정보와 친구 수, 게시글 수, 비콘 수를 조회합니다. 게시글/비콘 수에 보관된 글은 포함되지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class),
+                            examples = @ExampleObject(value = """
+                             {
+                               "code": "COMMON200",
+                               "result": {
+                                 "id": 1,
+                                 "handle": "happy_quokka",
+                                 "nickname": "행복한 쿼카",
+                                 "profileUrl": "https://fiv5-assets.s3.../profile.png",
+                                 "friendCount": 12,
+                                 "postCount": 34,
+                                 "beaconCount": 9
+                               }
+                             }
+                             """))),
+            @ApiResponse(responseCode = "404", description = "(USER404_1) 사용자를 찾을 수 없습니다.", content = @Content)
+    })
+    @GetMapping("/{userId}/summary")
+    public ResponseEntity<CustomResponse<UserDto.ProfileSummaryResponse>> getProfileSummary(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @Parameter(description = "조회할 유저 ID", required = true, example = "1")
+            @PathVariable Long userId
+    ) {
+        getUserId(user);
+        return ResponseEntity.ok(CustomResponse.ok(userService.getProfileSummary(userId)));
+    }
+
+    @Operation(summary = "[User] 1-2. 유저 일괄 조회",
+            description = "여러 유저의 카드 정보를 한 번에 조회합니다. (최대 300명) 목록 화면에서 유저마다 따로 요청하지 말고 이 API를 사용하세요.\n\n" +
+                    "응답은 요청한 `userIds` 순서를 따르며, 중복된 ID는 한 번만, 존재하지 않는 ID는 빠진 채로 반환됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class),
+                            examples = @ExampleObject(value = """
+                             {
+                               "code": "COMMON200",
+                               "result": [
+                                 {
+                                   "id": 3,
+                                   "handle": "sleepy_cat",
+                                   "nickname": "졸린 고양이",
+                                   "profileUrl": null,
+                                   "createdAt": "2025-11-03T09:00:00"
+                                 },
+                                 {
+                                   "id": 1,
+                                   "handle": "happy_quokka",
+                                   "nickname": "행복한 쿼카",
+                                   "profileUrl": "https://fiv5-assets.s3.../profile.png",
+                                   "createdAt": "2025-11-01T12:00:00"
+                                 }
+                               ]
+                             }
+                             """))),
+            @ApiResponse(responseCode = "400", description = "(COMMON400) ID 목록이 비었거나 300개를 넘음", content = @Content)
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<CustomResponse<List<UserDto.UserResponse>>> getUsers(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @Valid @RequestBody UserDto.BatchLookupRequest request
+    ) {
+        getUserId(user);
+        return ResponseEntity.ok(CustomResponse.ok(userService.getUsers(request.getUserIds())));
+    }
+
+    @Operation(summary = "[User] 1-3. 유저 검색 (타이핑 자동완성)",
+            description = """
+                핸들 또는 닉네임이 검색어로 **시작하는** 유저를 찾습니다. 핸들 일치가 먼저, 닉네임 일치가 그 다음에 옵니다.
+                
+                **[한글 검색]**
+                * 입력 중인 글자도 찾습니다. (`행ㅂ` → "행복한 쿼카")
+                * 초성만으로도 찾습니다. (`ㅎㅂ` → "행복한 쿼카")
+                * 닉네임의 두 번째 단어부터도 찾습니다. (`쿼카` → "행복한 쿼카")
+                * 대소문자와 공백은 구분하지 않습니다.
+                
+                **[페이지]** `page`는 0부터 시작하며, `size`는 최대 50입니다. `hasNext`가 `false`면 마지막 페이지입니다.
+                """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "검색 성공",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class),
+                            examples = @ExampleObject(value = """
+                             {
+                               "code": "COMMON200",
+                               "result": {
+                                 "users": [
+                                   {
+                                     "id": 1,
+                                     "handle": "happy_quokka",
+                                     "nickname": "행복한 쿼카",
+                                     "profileUrl": "https://fiv5-assets.s3.../profile.png",
+                                     "createdAt": "2025-11-01T12:00:00"
+                                   }
+                                 ],
+                                 "hasNext": false
+                               }
+                             }
+                             """))),
+            @ApiResponse(responseCode = "400", description = "(COMMON400) page 가 0~19 범위를 벗어나거나 size 가 1~50 범위를 벗어남", content = @Content)
+    })
+    @GetMapping("/search")
+    public ResponseEntity<CustomResponse<UserDto.UserSearchResponse>> searchUsers(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @Parameter(description = "검색어 (핸들 또는 닉네임의 앞부분)", required = true, example = "행복")
+            @RequestParam String query,
+            @Parameter(description = "페이지 번호 (0부터, 최대 19)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        getUserId(user);
+        if (page < 0 || page > MAX_SEARCH_PAGE || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        return ResponseEntity.ok(CustomResponse.ok(userSearchService.search(query, page, size)));
     }
 
     @Operation(summary = "[User] 2. 프로필(핸들, 닉네임) 수정",
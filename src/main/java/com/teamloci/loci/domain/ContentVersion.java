@@ -0,0 +1,50 @@
+package com.teamloci.loci.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 조회 응답의 ETag 를 만들기 위한 버전 스탬프. 쓰기가 일어날 때만 1씩 증가하며, 행은 지우지 않는다.
+ * key 예시: feed:{userId}, profile:{userId}, region:{H3 res5 셀}
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "content_versions")
+public class ContentVersion implements Persistable<String> {
+
+    @Id
+    @Column(name = "version_key", length = 96)
+    private String versionKey;
+
+    @Column(nullable = false)
+    private long version;
+
+    // 키를 직접 지정하므로 save() 가 merge 로 기존 행을 덮어쓰지 않도록 항상 INSERT 로 처리한다
+    @Transient
+    private boolean isNew = true;
+
+    public ContentVersion(String versionKey) {
+        this.versionKey = versionKey;
+        this.version = 0L;
+    }
+
+    @Override
+    public String getId() {
+        return versionKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,48 @@
+package com.teamloci.loci.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "media_uploads")
+public class MediaUpload extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "uploader_id", nullable = false)
+    private User uploader;
+
+    @Column(nullable = false, unique = true, length = 512)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MediaUploadStatus status;
+
+    @Builder
+    public MediaUpload(User uploader, String objectKey, String contentType, long size) {
+        this.uploader = uploader;
+        this.objectKey = objectKey;
+        this.contentType = contentType;
+        this.size = size;
+        this.status = MediaUploadStatus.PENDING;
+    }
+
+    public void verify() {
+        this.status = MediaUploadStatus.VERIFIED;
+    }
+}
@@ -0,0 +1,6 @@
+package com.teamloci.loci.domain;
+
+public enum MediaUploadStatus {
+    PENDING,
+    VERIFIED
+}
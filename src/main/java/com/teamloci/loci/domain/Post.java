@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -29,7 +30,8 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "posts", indexes = {
-        @Index(name = "idx_beacon_id", columnList = "beacon_id")
+        @Index(name = "idx_beacon_id", columnList = "beacon_id"),
+        @Index(name = "idx_post_archive", columnList = "status, is_auto_archive, created_at, id")
 })
 public class Post extends BaseTimeEntity {
 
@@ -88,12 +90,12 @@ public class Post extends BaseTimeEntity {
         collaborator.setPost(this);
     }
 
-    public void clearMedia() {
-        this.mediaList.clear();
+    public void removeMediaIf(Predicate<PostMedia> condition) {
+        this.mediaList.removeIf(condition);
     }
 
-    public void clearCollaborators() {
-        this.collaborators.clear();
+    public void removeCollaboratorsIf(Predicate<PostCollaborator> condition) {
+        this.collaborators.removeIf(condition);
     }
 
     public void update(Double latitude, Double longitude, String locationName, String beaconId, Boolean isAutoArchive) {
@@ -15,8 +15,12 @@ import lombok.Setter;
 })
 public class PostCollaborator {
 
+    // IDENTITY 는 JDBC 배치 INSERT 를 막으므로, 포스트당 여러 행이 생기는 자식 엔티티는 pooled 테이블 생성기를 쓴다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_collaborators_id")
+    @TableGenerator(name = "post_collaborators_id", table = "id_generator",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "post_collaborators", allocationSize = 50)
     private Long id;
 
     @Setter
@@ -6,15 +6,22 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "postMedia")
 @Table(name = "post_media")
 public class PostMedia {
 
+    // IDENTITY 는 JDBC 배치 INSERT 를 막으므로, 포스트당 여러 행이 생기는 자식 엔티티는 pooled 테이블 생성기를 쓴다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_media_id")
+    @TableGenerator(name = "post_media_id", table = "id_generator",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "post_media", allocationSize = 50)
     private Long id;
 
     @Setter
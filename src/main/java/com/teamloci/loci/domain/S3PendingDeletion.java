@@ -0,0 +1,39 @@
+package com.teamloci.loci.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커밋된 S3 삭제 요청. 요청 트랜잭션과 함께 저장되므로 재배포나 장애로 프로세스가 내려가도 유실되지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "s3_pending_deletions")
+public class S3PendingDeletion extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 게시글 미디어·프로필이 아직 참조하는지 비교할 때 쓰는 저장 당시의 URL
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String fileUrl;
+
+    @Column(nullable = false, length = 512)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    public S3PendingDeletion(String fileUrl, String objectKey) {
+        this.fileUrl = fileUrl;
+        this.objectKey = objectKey;
+    }
+
+    public void failed() {
+        this.attempts++;
+    }
+}
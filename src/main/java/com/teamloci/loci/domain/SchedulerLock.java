@@ -0,0 +1,30 @@
+package com.teamloci.loci.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "scheduler_locks")
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(length = 128)
+    private String lockedBy;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    public SchedulerLock(String name, LocalDateTime lockedUntil) {
+        this.name = name;
+        this.lockedUntil = lockedUntil;
+    }
+}
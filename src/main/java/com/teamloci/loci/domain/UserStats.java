@@ -0,0 +1,66 @@
+package com.teamloci.loci.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 프로필 헤더에 쓰는 사용자별 집계. 쓰기 경로에서 원자적 UPDATE 로 증감하고, 주기적으로 원본 테이블과 맞춘다.
+ * postCount/beaconCount 는 ACTIVE 포스트만 센다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_stats")
+public class UserStats implements Persistable<Long> {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long friendCount;
+
+    @Column(nullable = false)
+    private long postCount;
+
+    @Column(nullable = false)
+    private long beaconCount;
+
+    // 키를 직접 지정하므로 save() 가 merge 로 기존 행을 덮어쓰지 않도록 항상 INSERT 로 처리한다
+    @Transient
+    private boolean isNew = true;
+
+    public UserStats(Long userId) {
+        this.userId = userId;
+    }
+
+    // 값이 바뀌었으면 true
+    public boolean reconcile(long friendCount, long postCount, long beaconCount) {
+        boolean changed = this.friendCount != friendCount
+                || this.postCount != postCount
+                || this.beaconCount != beaconCount;
+        this.friendCount = friendCount;
+        this.postCount = postCount;
+        this.beaconCount = beaconCount;
+        return changed;
+    }
+
+    @Override
+    public Long getId() {
+        return userId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
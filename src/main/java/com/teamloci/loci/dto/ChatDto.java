@@ -50,7 +50,7 @@ public class ChatDto {
         @Schema(description = "채팅방 참여자 정보 (Key: User ID)")
         private Map<String, ParticipantInfo> participantInfo;
 
-        @Schema(description = "참여자별 안 읽은 메시지 수 (Key: User ID)", example = "{\"1\": 0, \"5\": 2}")
+        @Schema(description = "내 안 읽은 메시지 수. 조회한 사용자 자신의 항목 하나만 담긴다 (Key: 내 User ID). 상대방의 안 읽은 수는 내려주지 않는다", example = "{\"1\": 2}")
         private Map<String, Long> unreadCount;
 
         @Schema(description = "채팅방이 마지막으로 업데이트된 시간")
@@ -1,7 +1,14 @@
 package com.teamloci.loci.dto;
 
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
 
 public class FileDto {
 
@@ -10,4 +17,46 @@ public class FileDto {
     public static class FileUploadResponse {
         private String fileUrl;
     }
-}
\ No newline at end of file
+
+    @Getter
+    @NoArgsConstructor
+    @Schema(description = "Presigned 업로드 URL 발급 요청")
+    public static class PresignedUploadRequest {
+        @Schema(description = "S3 내 저장 디렉토리 (posts, profiles)", example = "posts")
+        @NotBlank
+        private String directory;
+
+        @Schema(description = "원본 파일 이름", example = "video.mp4")
+        @NotBlank
+        private String fileName;
+
+        @Schema(description = "파일 Content-Type (image/* 또는 video/*)", example = "video/mp4")
+        @NotBlank
+        private String contentType;
+
+        @Schema(description = "파일 크기 (bytes)", example = "10485760")
+        @NotNull
+        @Positive
+        private Long size;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PresignedUploadResponse {
+        @Schema(description = "파일을 PUT 할 presigned URL")
+        private String uploadUrl;
+        @Schema(description = "업로드 완료 후 사용할 파일 URL")
+        private String fileUrl;
+        @Schema(description = "uploadUrl 만료 시각")
+        private LocalDateTime expiresAt;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @Schema(description = "Presigned 업로드 완료 알림 요청")
+    public static class UploadCompleteRequest {
+        @Schema(description = "발급받은 파일 URL")
+        @NotBlank
+        private String fileUrl;
+    }
+}
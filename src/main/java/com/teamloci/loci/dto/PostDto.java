@@ -5,6 +5,9 @@ import com.teamloci.loci.domain.Post;
 import com.teamloci.loci.domain.PostCollaborator;
 import com.teamloci.loci.domain.PostMedia;
 import com.teamloci.loci.domain.User;
+import com.teamloci.loci.repository.projection.PostCollaboratorView;
+import com.teamloci.loci.repository.projection.PostMediaView;
+import com.teamloci.loci.repository.projection.PostView;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -14,6 +17,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -39,6 +43,14 @@ public class PostDto {
                     user.getProfileUrl()
             );
         }
+
+        public static UserSimpleResponse from(PostCollaboratorView collaborator) {
+            return new UserSimpleResponse(
+                    collaborator.getUserId(),
+                    collaborator.getNickname(),
+                    collaborator.getProfileUrl()
+            );
+        }
     }
 
     @Getter
@@ -63,6 +75,15 @@ public class PostDto {
                     media.getSortOrder()
             );
         }
+
+        public static MediaResponse from(PostMediaView media) {
+            return new MediaResponse(
+                    media.getId(),
+                    media.getMediaUrl(),
+                    media.getMediaType(),
+                    media.getSortOrder()
+            );
+        }
     }
 
     @Getter
@@ -144,6 +165,25 @@ public class PostDto {
                     .isAutoArchive(post.isAutoArchive())
                     .build();
         }
+
+        public static PostDetailResponse from(PostView post, List<PostMediaView> mediaList, List<PostCollaboratorView> collaborators) {
+            return PostDetailResponse.builder()
+                    .id(post.getId())
+                    .latitude(post.getLatitude())
+                    .longitude(post.getLongitude())
+                    .locationName(post.getLocationName())
+                    .author(new UserSimpleResponse(post.getUserId(), post.getUserNickname(), post.getUserProfileUrl()))
+                    .mediaList(mediaList.stream()
+                            .map(MediaResponse::from)
+                            .collect(Collectors.toList()))
+                    .collaborators(collaborators.stream()
+                            .map(UserSimpleResponse::from)
+                            .collect(Collectors.toList()))
+                    .createdAt(post.getCreatedAt())
+                    .updatedAt(post.getUpdatedAt())
+                    .isAutoArchive(post.isAutoArchive())
+                    .build();
+        }
     }
 
     @Getter
@@ -168,6 +208,46 @@ public class PostDto {
         private String thumbnailImageUrl;
     }
 
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Schema(description = "지도 마커 응답 (열 단위). 같은 인덱스의 값이 하나의 마커를 이룬다")
+    public static class MapMarkerColumnsResponse {
+        @Schema(description = "비콘 ID 목록", example = "[\"89283082807ffff\", \"89283082803ffff\"]")
+        private List<String> beaconIds;
+
+        @Schema(description = "비콘 중심 위도 목록", example = "[37.5665, 37.5670]")
+        private double[] latitudes;
+
+        @Schema(description = "비콘 중심 경도 목록", example = "[126.9780, 126.9790]")
+        private double[] longitudes;
+
+        @Schema(description = "구역별 게시글 수 목록", example = "[5, 2]")
+        private long[] counts;
+
+        @Schema(description = "대표 썸네일 이미지 URL 목록 (없으면 null)")
+        private List<String> thumbnailImageUrls;
+
+        public static MapMarkerColumnsResponse from(List<MapMarkerResponse> markers) {
+            int size = markers.size();
+            List<String> beaconIds = new ArrayList<>(size);
+            double[] latitudes = new double[size];
+            double[] longitudes = new double[size];
+            long[] counts = new long[size];
+            List<String> thumbnailImageUrls = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                MapMarkerResponse marker = markers.get(i);
+                beaconIds.add(marker.getBeaconId());
+                latitudes[i] = marker.getLatitude();
+                longitudes[i] = marker.getLongitude();
+                counts[i] = marker.getCount();
+                thumbnailImageUrls.add(marker.getThumbnailImageUrl());
+            }
+            return new MapMarkerColumnsResponse(beaconIds, latitudes, longitudes, counts, thumbnailImageUrls);
+        }
+    }
+
     @Getter
     @Builder
     @AllArgsConstructor
@@ -2,8 +2,12 @@ package com.teamloci.loci.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.teamloci.loci.domain.User;
+import com.teamloci.loci.repository.projection.UserProfileView;
+import com.teamloci.loci.repository.projection.UserSummaryView;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -11,6 +15,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class UserDto {
 
@@ -54,6 +59,16 @@ public class UserDto {
         private String fcmToken;
     }
 
+    @Getter
+    @NoArgsConstructor
+    @Schema(description = "유저 일괄 조회 요청")
+    public static class BatchLookupRequest {
+        @Schema(description = "조회할 유저 ID 목록 (최대 300개). 응답은 이 순서를 따른다", example = "[3, 1, 2]")
+        @NotEmpty(message = "조회할 유저 ID가 필요합니다.")
+        @Size(max = 300, message = "한 번에 최대 300명까지 조회할 수 있습니다.")
+        private List<@NotNull Long> userIds;
+    }
+
     @Getter
     @AllArgsConstructor
     @Schema(description = "사용자 정보 응답")
@@ -82,5 +97,64 @@ public class UserDto {
                     user.getCreatedAt()
             );
         }
+
+        public static UserResponse from(UserProfileView user) {
+            return new UserResponse(
+                    user.getId(),
+                    user.getHandle(),
+                    user.getNickname(),
+                    user.getProfileUrl(),
+                    user.getCreatedAt()
+            );
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Schema(description = "유저 검색 응답")
+    public static class UserSearchResponse {
+        @Schema(description = "검색된 유저 목록 (핸들 일치 우선)")
+        private List<UserResponse> users;
+
+        @Schema(description = "다음 페이지가 있는지 여부")
+        private boolean hasNext;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Schema(description = "프로필 헤더 요약 응답")
+    public static class ProfileSummaryResponse {
+        @Schema(description = "유저 고유 ID (DB PK)", example = "1")
+        private Long id;
+
+        @Schema(description = "사용자 핸들 (고유 ID, @handle)", example = "happy_quokka")
+        private String handle;
+
+        @Schema(description = "표시 이름 (닉네임)", example = "행복한 쿼카")
+        private String nickname;
+
+        @Schema(description = "프로필 이미지 URL", example = "https://fiv5.../profile.jpg")
+        private String profileUrl;
+
+        @Schema(description = "친구 수", example = "12")
+        private long friendCount;
+
+        @Schema(description = "게시글 수 (보관된 글 제외)", example = "34")
+        private long postCount;
+
+        @Schema(description = "게시글을 남긴 서로 다른 비콘(구역) 수", example = "9")
+        private long beaconCount;
+
+        public static ProfileSummaryResponse from(UserSummaryView summary) {
+            return new ProfileSummaryResponse(
+                    summary.getId(),
+                    summary.getHandle(),
+                    summary.getNickname(),
+                    summary.getProfileUrl(),
+                    summary.getFriendCount(),
+                    summary.getPostCount(),
+                    summary.getBeaconCount()
+            );
+        }
     }
 }
\ No newline at end of file
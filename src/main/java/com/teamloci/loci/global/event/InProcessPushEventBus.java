@@ -0,0 +1,42 @@
+package com.teamloci.loci.global.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class InProcessPushEventBus implements PushEventBus {
+
+    private final ConcurrentHashMap<Long, Set<Consumer<PushEvent>>> listeners = new ConcurrentHashMap<>();
+
+    // 리스너는 큐에 넣기만 하므로 발행 스레드를 막지 않는다
+    @Override
+    public void publish(PushEvent event) {
+        for (Long recipientId : event.getRecipientIds()) {
+            Set<Consumer<PushEvent>> recipientListeners = listeners.get(recipientId);
+            if (recipientListeners == null) {
+                continue;
+            }
+            for (Consumer<PushEvent> listener : recipientListeners) {
+                try {
+                    listener.accept(event);
+                } catch (RuntimeException e) {
+                    log.warn("[Push] 이벤트 전달 실패 [User: {}]: {}", recipientId, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public Subscription subscribe(Long userId, Consumer<PushEvent> listener) {
+        listeners.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(listener);
+        return () -> listeners.computeIfPresent(userId, (id, set) -> {
+            set.remove(listener);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
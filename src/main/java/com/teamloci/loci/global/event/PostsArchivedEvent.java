@@ -0,0 +1,13 @@
+package com.teamloci.loci.global.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 자동 보관으로 이번에 ACTIVE 에서 ARCHIVED 로 바뀐 포스트 ID 묶음. 청크 트랜잭션 안에서 발행된다
+@Getter
+@RequiredArgsConstructor
+public class PostsArchivedEvent {
+    private final List<Long> postIds;
+}
@@ -0,0 +1,16 @@
+package com.teamloci.loci.global.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.Set;
+
+// 접속 중인 클라이언트에게 보낼 이벤트. payload 는 그대로 SSE data(JSON)가 된다
+@Getter
+@RequiredArgsConstructor
+public class PushEvent {
+    private final PushEventType type;
+    private final Set<Long> recipientIds;
+    private final Map<String, Object> payload;
+}
@@ -0,0 +1,19 @@
+package com.teamloci.loci.global.event;
+
+import java.util.function.Consumer;
+
+/**
+ * 푸시 이벤트 전달 경로. 지금은 인스턴스 내부 구현만 있으며,
+ * 여러 인스턴스로 확장할 때는 브로커(Redis Pub/Sub 등) 구현으로 교체하면 된다.
+ */
+public interface PushEventBus {
+
+    void publish(PushEvent event);
+
+    Subscription subscribe(Long userId, Consumer<PushEvent> listener);
+
+    interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
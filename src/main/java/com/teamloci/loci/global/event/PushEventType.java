@@ -0,0 +1,9 @@
+package com.teamloci.loci.global.event;
+
+public enum PushEventType {
+    FEED_POST,
+    FRIEND_ADDED,
+    CHAT_ROOM_UPDATED,
+    // 연결 큐가 넘쳐 이벤트를 버렸다. 클라이언트는 목록을 다시 조회해야 한다
+    RESYNC
+}
@@ -29,6 +29,14 @@ public enum ErrorCode implements BaseErrorCode {
     // == S3 관련 에러 ==
     FILE_IS_EMPTY("FILE400_1", "업로드할 파일이 비어있습니다.", HttpStatus.BAD_REQUEST),
     S3_UPLOAD_FAILED("S3500_1", "S3 파일 업로드에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    INVALID_UPLOAD_REQUEST("FILE400_2", "허용되지 않는 파일 형식이거나 크기입니다.", HttpStatus.BAD_REQUEST),
+    UPLOAD_VERIFICATION_FAILED("FILE400_3", "업로드된 파일이 요청한 크기 또는 형식과 다릅니다.", HttpStatus.BAD_REQUEST),
+    NOT_UPLOAD_OWNER("FILE403_1", "본인이 요청한 업로드가 아닙니다.", HttpStatus.FORBIDDEN),
+    UPLOAD_NOT_FOUND("FILE404_1", "업로드 요청 기록 또는 업로드된 파일을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    UPLOAD_NOT_VERIFIED("FILE409_1", "업로드 완료 확인이 되지 않은 파일입니다.", HttpStatus.CONFLICT),
+
+    // == 이미지 관련 에러 ==
+    IMAGE_RESIZE_BUSY("IMAGE503_1", "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
 
     // == 친구 관련 에러 ==
     SELF_FRIEND_REQUEST("FRIEND400_1", "자기 자신에게 친구 요청을 보낼 수 없습니다.", HttpStatus.BAD_REQUEST),
@@ -49,6 +57,7 @@ public enum ErrorCode implements BaseErrorCode {
 
     // == 채팅 관련 에러 ==
     CHAT_ROOM_LIST_FAILED("CHAT500_1", "채팅방 목록을 불러오는 데 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    NOT_CHAT_PARTICIPANT("CHAT403_1", "참여하고 있지 않은 채팅방입니다.", HttpStatus.FORBIDDEN),
 
     // == Firebase 관련 에러 ==
     FIREBASE_AUTH_FAILED("AUTH500_1", "Firebase 인증 토큰 생성에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
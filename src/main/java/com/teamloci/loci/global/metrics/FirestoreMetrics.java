@@ -0,0 +1,44 @@
+package com.teamloci.loci.global.metrics;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Firestore 호출은 대부분 응답을 기다리지 않는 비동기 호출이므로, 완료 콜백에서 지연 시간을 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FirestoreMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> ApiFuture<T> record(String operation, ApiFuture<T> future) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(T result) {
+                sample.stop(timer(operation, "SUCCESS"));
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                sample.stop(timer(operation, "ERROR"));
+            }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return Timer.builder("firestore.requests")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
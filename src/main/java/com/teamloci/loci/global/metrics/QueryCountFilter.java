@@ -0,0 +1,71 @@
+package com.teamloci.loci.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 실행된 SQL 문 수를 hibernate.statements.per.request 로 기록한다.
+ * 같은 엔드포인트의 분포가 갑자기 커지면 N+1 회귀를 의심할 수 있고, 임계치를 넘으면 로그도 남긴다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final QueryCountInspector queryCountInspector;
+    private final MeterRegistry meterRegistry;
+    private final long warnThreshold;
+
+    public QueryCountFilter(
+            QueryCountInspector queryCountInspector,
+            MeterRegistry meterRegistry,
+            @Value("${metrics.query-count.warn-threshold:20}") long warnThreshold
+    ) {
+        this.queryCountInspector = queryCountInspector;
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        queryCountInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long count = queryCountInspector.count();
+            queryCountInspector.clear();
+
+            // 태그 수가 폭증하지 않도록 실제 경로 대신 매핑된 URI 패턴을 쓴다
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+            DistributionSummary.builder("hibernate.statements.per.request")
+                    .description("요청 하나에서 실행된 SQL 문 수")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(count);
+
+            if (count > warnThreshold) {
+                log.warn("[QueryCount] {} {} 요청에서 SQL {}건 실행 (임계치 {})", request.getMethod(), uri, count, warnThreshold);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.teamloci.loci.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 가 실행하는 SQL 문 수를 현재 스레드 기준으로 센다.
+ * 요청 단위 집계는 QueryCountFilter 가, 테스트에서는 start()/count() 로 직접 사용한다.
+ */
+@Component
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNTER = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNTER.get()[0]++;
+        return sql;
+    }
+
+    public void start() {
+        COUNTER.get()[0] = 0;
+    }
+
+    public long count() {
+        return COUNTER.get()[0];
+    }
+
+    public void clear() {
+        COUNTER.remove();
+    }
+}
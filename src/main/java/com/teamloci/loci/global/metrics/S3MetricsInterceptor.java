@@ -0,0 +1,51 @@
+package com.teamloci.loci.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * S3 클라이언트 호출(재시도 포함)의 지연 시간을 오퍼레이션별 히스토그램으로 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class S3MetricsInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Timer.Sample> SAMPLE = new ExecutionAttribute<>("MetricsSample");
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(SAMPLE, Timer.start(meterRegistry));
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        stop(executionAttributes, "SUCCESS");
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        stop(executionAttributes, "ERROR");
+    }
+
+    private void stop(ExecutionAttributes executionAttributes, String outcome) {
+        Timer.Sample sample = executionAttributes.getAttribute(SAMPLE);
+        if (sample == null) {
+            return;
+        }
+        String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        sample.stop(Timer.builder("s3.client.requests")
+                .tag("operation", operation != null ? operation : "unknown")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -1,35 +1,62 @@
 package com.teamloci.loci.global.scheduler;
 
-import com.teamloci.loci.repository.PostRepository;
+import com.teamloci.loci.service.PostArchiveService;
+import com.teamloci.loci.service.SchedulerLockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PostScheduler {
 
-    private final PostRepository postRepository;
+    private final PostArchiveService postArchiveService;
+    private final SchedulerLockService schedulerLockService;
 
     private static final int EXPIRATION_DAYS = 30;
+    private static final String ARCHIVE_LOCK_PREFIX = "post-archive-";
+    private static final Duration ARCHIVE_LEASE = Duration.ofMinutes(10);
 
+    @Value("${post.archive.partitions:4}")
+    private int partitions;
+
+    // 모든 인스턴스가 동시에 깨어나지만, 파티션마다 리스 락을 잡은 한 곳만 처리한다.
+    // 시작 파티션을 섞어 인스턴스들이 서로 다른 파티션을 나눠 갖도록 한다.
     @Scheduled(cron = "0 0 4 * * *")
-    @Transactional
     public void archiveExpiredPosts() {
         LocalDateTime expiryDate = LocalDateTime.now().minusDays(EXPIRATION_DAYS);
 
         log.info("[Scheduler] 게시글 자동 보관 작업 시작... (기준: {} 이전 작성)", expiryDate);
 
-        try {
-            int count = postRepository.archiveOldPosts(expiryDate);
-            log.info("[Scheduler] 총 {}개의 게시글이 보관함으로 이동되었습니다.", count);
-        } catch (Exception e) {
-            log.error("[Scheduler] 게시글 보관 처리 중 오류 발생", e);
+        List<Integer> order = new ArrayList<>(IntStream.range(0, partitions).boxed().toList());
+        Collections.shuffle(order);
+
+        int count = 0;
+        for (int partition : order) {
+            String lockName = ARCHIVE_LOCK_PREFIX + partition;
+            if (!schedulerLockService.tryAcquire(lockName, ARCHIVE_LEASE)) {
+                continue;
+            }
+            try {
+                count += postArchiveService.archiveExpired(expiryDate, partition, partitions,
+                        () -> schedulerLockService.tryAcquire(lockName, ARCHIVE_LEASE));
+            } catch (Exception e) {
+                log.error("[Scheduler] 게시글 보관 처리 중 오류 발생 (파티션 {})", partition, e);
+            } finally {
+                schedulerLockService.release(lockName);
+            }
         }
+
+        log.info("[Scheduler] 이 인스턴스에서 총 {}개의 게시글이 보관함으로 이동되었습니다.", count);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.teamloci.loci.global.scheduler;
+
+import com.teamloci.loci.service.SchedulerLockService;
+import com.teamloci.loci.service.UserStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserStatsScheduler {
+
+    private final UserStatsService userStatsService;
+    private final SchedulerLockService schedulerLockService;
+
+    private static final String RECONCILE_LOCK = "user-stats-reconcile";
+    private static final Duration RECONCILE_LEASE = Duration.ofMinutes(10);
+
+    // 게시글 자동 보관(04:00)이 끝난 뒤, 한 인스턴스에서만 전체 집계를 원본과 맞춘다
+    @Scheduled(cron = "${user-stats.reconcile.cron:0 30 4 * * *}")
+    public void reconcileUserStats() {
+        if (!schedulerLockService.tryAcquire(RECONCILE_LOCK, RECONCILE_LEASE)) {
+            return;
+        }
+
+        log.info("[Scheduler] 사용자 집계 보정 작업 시작...");
+        try {
+            int corrected = userStatsService.reconcile(
+                    () -> schedulerLockService.tryAcquire(RECONCILE_LOCK, RECONCILE_LEASE));
+            log.info("[Scheduler] 사용자 집계 보정 완료: {}명의 값이 바로잡혔습니다.", corrected);
+        } catch (Exception e) {
+            log.error("[Scheduler] 사용자 집계 보정 중 오류 발생", e);
+        } finally {
+            schedulerLockService.release(RECONCILE_LOCK);
+        }
+    }
+}
@@ -1,22 +1,32 @@
 package com.teamloci.loci.global.util;
 
+import com.uber.h3core.AreaUnit;
 import com.uber.h3core.H3Core;
+import com.uber.h3core.util.LatLng;
 import com.teamloci.loci.global.exception.CustomException;
 import com.teamloci.loci.global.exception.code.ErrorCode;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Component
 public class GeoUtils {
 
     private final H3Core h3;
+    private final double regionAreaKm2;
 
     private static final int BEACON_RESOLUTION = 9;
+    // 지도 응답의 변경 여부를 추적하는 단위. res 5 셀 하나가 대략 250km² 이다
+    private static final int REGION_RESOLUTION = 5;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
 
     public GeoUtils() {
         try {
             this.h3 = H3Core.newInstance();
+            this.regionAreaKm2 = h3.getHexagonAreaAvg(REGION_RESOLUTION, AreaUnit.km2);
         } catch (IOException e) {
             throw new RuntimeException("H3 라이브러리 초기화 실패", e);
         }
@@ -37,6 +47,46 @@ public class GeoUtils {
         }
     }
 
+    public String latLngToRegionId(double latitude, double longitude) {
+        return h3.latLngToCellAddress(latitude, longitude, REGION_RESOLUTION);
+    }
+
+    /**
+     * 사각형 범위와 겹치는 모든 지역 셀을 반환한다. maxRegions 를 넘으면 null.
+     * 중심이 범위 안에 있는 셀과 네 꼭짓점의 셀에 이웃 한 겹을 더해, 경계에 걸친 셀까지 빠짐없이 포함한다.
+     * 셀을 나열하기 전에 면적으로 개수를 어림해, 넓은 범위에서 수십만 개의 셀을 만들지 않는다.
+     */
+    public Set<String> regionIdsInBox(double minLat, double maxLat, double minLon, double maxLon, int maxRegions) {
+        if (minLat > maxLat || minLon > maxLon || estimateRegionCount(minLat, maxLat, minLon, maxLon) * 7 > maxRegions) {
+            return null;
+        }
+
+        List<LatLng> box = List.of(
+                new LatLng(minLat, minLon),
+                new LatLng(minLat, maxLon),
+                new LatLng(maxLat, maxLon),
+                new LatLng(maxLat, minLon)
+        );
+
+        Set<String> cells = new TreeSet<>(h3.polygonToCellAddresses(box, List.of(), REGION_RESOLUTION));
+        box.forEach(corner -> cells.add(latLngToRegionId(corner.lat, corner.lng)));
+        if (cells.size() * 7 > maxRegions) {
+            return null;
+        }
+
+        Set<String> regions = new TreeSet<>();
+        cells.forEach(cell -> regions.addAll(h3.gridDisk(cell, 1)));
+        return regions.size() > maxRegions ? null : regions;
+    }
+
+    // 구면 위 위경도 사각형의 면적 / 평균 셀 면적
+    private double estimateRegionCount(double minLat, double maxLat, double minLon, double maxLon) {
+        double areaKm2 = EARTH_RADIUS_KM * EARTH_RADIUS_KM
+                * Math.toRadians(maxLon - minLon)
+                * (Math.sin(Math.toRadians(maxLat)) - Math.sin(Math.toRadians(minLat)));
+        return areaKm2 / regionAreaKm2;
+    }
+
     public static class Pair<K, V> {
         public final K lat;
         public final V lng;
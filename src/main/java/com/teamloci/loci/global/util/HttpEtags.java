@@ -0,0 +1,70 @@
+package com.teamloci.loci.global.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.StringJoiner;
+
+/**
+ * ETag 생성과 If-None-Match 비교. 응답 본문은 Accept 에 따라 달라지므로(JSON/CBOR) 항상 Vary: Accept 를 붙인다.
+ */
+public final class HttpEtags {
+
+    // 클라이언트가 매번 재검증하도록 한다. 변경이 없으면 304 라 비용이 거의 없다
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private HttpEtags() {
+    }
+
+    public static String of(Object... parts) {
+        StringJoiner joiner = new StringJoiner("|");
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(joiner.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // If-None-Match 는 약한 비교를 쓰므로 W/ 접두사는 무시한다
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals(etag) || trimmed.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+    }
+
+    public static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body);
+    }
+}
@@ -0,0 +1,26 @@
+package com.teamloci.loci.repository;
+
+import com.teamloci.loci.domain.ContentVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ContentVersionRepository extends JpaRepository<ContentVersion, String> {
+
+    @Query("SELECT v.versionKey FROM ContentVersion v WHERE v.versionKey IN :keys")
+    List<String> findExistingKeys(@Param("keys") Collection<String> keys);
+
+    // 처음 쓰이는 키만 만든다. 다른 트랜잭션이 먼저 만들었으면 그 커밋을 기다린 뒤 무시되므로, 같은 커넥션 안에서 끝난다
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO content_versions (version_key, version) VALUES (:key, 0)", nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key);
+
+    // 쓰기 트랜잭션의 커밋 직전에 실행되므로, 아직 flush 되지 않은 변경을 먼저 내보내고 영속성 컨텍스트는 비우지 않는다
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ContentVersion v SET v.version = v.version + 1 WHERE v.versionKey IN :keys")
+    int increment(@Param("keys") Collection<String> keys);
+}
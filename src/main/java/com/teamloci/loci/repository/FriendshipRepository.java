@@ -2,10 +2,12 @@ package com.teamloci.loci.repository;
 
 import com.teamloci.loci.domain.Friendship;
 import com.teamloci.loci.domain.FriendshipStatus;
+import com.teamloci.loci.repository.projection.UserProfileView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -35,16 +37,6 @@ public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
             @Param("status") FriendshipStatus status
     );
 
-    @Query("SELECT f FROM Friendship f " +
-            "JOIN FETCH f.requester " +
-            "JOIN FETCH f.receiver " +
-            "WHERE (f.requester.id = :userId OR f.receiver.id = :userId) " +
-            "AND f.status = :status")
-    List<Friendship> findAllFriendsWithUsers(
-            @Param("userId") Long userId,
-            @Param("status") FriendshipStatus status
-    );
-
     @Query("SELECT CASE WHEN COUNT(f) > 0 THEN true ELSE false END " +
             "FROM Friendship f " +
             "WHERE (f.requester.id = :userA AND f.receiver.id = :userB) " +
@@ -67,4 +59,46 @@ public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
             @Param("userB") Long userB,
             @Param("status") FriendshipStatus status
     );
-}
\ No newline at end of file
+
+    @Query("SELECT f.receiver.id FROM Friendship f " +
+            "WHERE f.requester.id IN :userIds AND f.status = :status")
+    List<Long> findReceiverIdsByRequesterIds(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("status") FriendshipStatus status
+    );
+
+    @Query("SELECT f.requester.id FROM Friendship f " +
+            "WHERE f.receiver.id IN :userIds AND f.status = :status")
+    List<Long> findRequesterIdsByReceiverIds(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("status") FriendshipStatus status
+    );
+
+    // [userId, 친구 수]. 한쪽 방향만 세므로 requester/receiver 결과를 더해야 한다
+    @Query("SELECT f.requester.id, COUNT(f) FROM Friendship f " +
+            "WHERE f.requester.id IN :userIds AND f.status = :status " +
+            "GROUP BY f.requester.id")
+    List<Object[]> countByRequesterIds(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("status") FriendshipStatus status
+    );
+
+    @Query("SELECT f.receiver.id, COUNT(f) FROM Friendship f " +
+            "WHERE f.receiver.id IN :userIds AND f.status = :status " +
+            "GROUP BY f.receiver.id")
+    List<Object[]> countByReceiverIds(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("status") FriendshipStatus status
+    );
+
+    @Query("SELECT u.id AS id, u.handle AS handle, u.nickname AS nickname, " +
+            "u.profileUrl AS profileUrl, u.createdAt AS createdAt " +
+            "FROM Friendship f JOIN User u " +
+            "ON (f.requester.id = :userId AND u.id = f.receiver.id) " +
+            "OR (f.receiver.id = :userId AND u.id = f.requester.id) " +
+            "WHERE f.status = :status")
+    List<UserProfileView> findFriendProfiles(
+            @Param("userId") Long userId,
+            @Param("status") FriendshipStatus status
+    );
+}
@@ -0,0 +1,15 @@
+package com.teamloci.loci.repository;
+
+import com.teamloci.loci.domain.MediaUpload;
+import com.teamloci.loci.domain.MediaUploadStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface MediaUploadRepository extends JpaRepository<MediaUpload, Long> {
+
+    Optional<MediaUpload> findByObjectKey(String objectKey);
+
+    boolean existsByObjectKeyInAndStatus(Collection<String> objectKeys, MediaUploadStatus status);
+}
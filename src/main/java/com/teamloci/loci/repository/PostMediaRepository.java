@@ -1,7 +1,24 @@
 package com.teamloci.loci.repository;
 
 import com.teamloci.loci.domain.PostMedia;
+import com.teamloci.loci.repository.projection.PostMediaView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PostMediaRepository extends JpaRepository<PostMedia, Long> {
+
+    @Query("SELECT m.post.id AS postId, m.id AS id, m.mediaUrl AS mediaUrl, " +
+            "m.mediaType AS mediaType, m.sortOrder AS sortOrder " +
+            "FROM PostMedia m " +
+            "WHERE m.post.id IN :postIds " +
+            "ORDER BY m.sortOrder ASC")
+    List<PostMediaView> findViewsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // S3 삭제 전에 다른 게시글이 같은 파일을 아직 쓰는지 확인한다
+    @Query("SELECT DISTINCT m.mediaUrl FROM PostMedia m WHERE m.mediaUrl IN :urls")
+    List<String> findReferencedUrls(@Param("urls") Collection<String> urls);
 }
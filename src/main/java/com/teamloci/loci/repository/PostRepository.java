@@ -1,18 +1,37 @@
 package com.teamloci.loci.repository;
 
 import com.teamloci.loci.domain.Post;
+import com.teamloci.loci.repository.projection.ArchiveCandidateView;
+import com.teamloci.loci.repository.projection.PostCollaboratorView;
+import com.teamloci.loci.repository.projection.PostLocationView;
+import com.teamloci.loci.repository.projection.PostView;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    String POST_VIEW_COLUMNS = "SELECT p.id AS id, p.latitude AS latitude, p.longitude AS longitude, " +
+            "p.locationName AS locationName, p.createdAt AS createdAt, p.updatedAt AS updatedAt, " +
+            "p.isAutoArchive AS autoArchive, " +
+            "u.id AS userId, u.nickname AS userNickname, u.profileUrl AS userProfileUrl " +
+            "FROM Post p JOIN p.user u ";
+
+    String FRIEND_IDS = "(" +
+            "SELECT f.receiver.id FROM Friendship f WHERE f.requester.id = :myUserId AND f.status = 'FRIENDSHIP' " +
+            "UNION " +
+            "SELECT f.requester.id FROM Friendship f WHERE f.receiver.id = :myUserId AND f.status = 'FRIENDSHIP'" +
+            ") ";
+
     @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.user " +
             "LEFT JOIN FETCH p.mediaList " +
@@ -20,19 +39,6 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "WHERE p.id = :postId")
     Optional<Post> findByIdWithDetails(@Param("postId") Long postId);
 
-    @Query("SELECT p FROM Post p " +
-            "LEFT JOIN FETCH p.user " +
-            "WHERE p.user.id = :userId AND p.status = 'ACTIVE' " +
-            "ORDER BY p.createdAt DESC")
-    List<Post> findByUserIdWithUser(@Param("userId") Long userId);
-
-    @Query("SELECT p FROM Post p " +
-            "LEFT JOIN FETCH p.user " +
-            "LEFT JOIN FETCH p.mediaList " +
-            "WHERE p.beaconId = :beaconId AND p.status = 'ACTIVE' " +
-            "ORDER BY p.createdAt DESC")
-    List<Post> findByBeaconId(@Param("beaconId") String beaconId);
-
     @Query("SELECT p.beaconId, COUNT(p), MAX(pm.mediaUrl) " +
             "FROM Post p " +
             "LEFT JOIN p.mediaList pm " +
@@ -47,40 +53,79 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             @Param("maxLon") Double maxLon
     );
 
-    @Query("SELECT p FROM Post p " +
-            "LEFT JOIN FETCH p.user " +
-            "WHERE p.user.id IN (" +
-            "SELECT f.receiver.id FROM Friendship f WHERE f.requester.id = :myUserId AND f.status = 'FRIENDSHIP' " +
-            "UNION " +
-            "SELECT f.requester.id FROM Friendship f WHERE f.receiver.id = :myUserId AND f.status = 'FRIENDSHIP'" +
-            ") " +
+    // idx_post_archive (status, is_auto_archive, created_at, id) 를 (createdAt, id) 키셋으로 순회한다
+    @Query("SELECT p.id AS id, p.createdAt AS createdAt FROM Post p " +
+            "WHERE p.status = 'ACTIVE' " +
+            "AND p.isAutoArchive = true " +
+            "AND p.createdAt < :expiryDate " +
+            "AND (p.createdAt > :lastCreatedAt OR (p.createdAt = :lastCreatedAt AND p.id > :lastId)) " +
+            "AND MOD(p.id, :partitions) = :partition " +
+            "ORDER BY p.createdAt ASC, p.id ASC")
+    List<ArchiveCandidateView> findArchiveCandidates(
+            @Param("expiryDate") LocalDateTime expiryDate,
+            @Param("partition") int partition,
+            @Param("partitions") int partitions,
+            @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.status = 'ARCHIVED' " +
+            "WHERE p.id IN :postIds AND p.status = 'ACTIVE'")
+    int archiveByIds(@Param("postIds") Collection<Long> postIds);
+
+    // 보관 청크 트랜잭션에서 아직 ACTIVE 인 후보만 잠근다. 교착을 피하도록 항상 ID 순서로 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :postIds AND p.status = 'ACTIVE' ORDER BY p.id ASC")
+    List<Long> lockActiveIds(@Param("postIds") Collection<Long> postIds);
+
+    @Query("SELECT p.user.id AS userId, p.latitude AS latitude, p.longitude AS longitude " +
+            "FROM Post p WHERE p.id IN :postIds")
+    List<PostLocationView> findLocationViewsByIds(@Param("postIds") Collection<Long> postIds);
+
+    // [userId, ACTIVE 포스트 수, 서로 다른 비콘 수]. 포스트가 없는 사용자는 결과에 없다
+    @Query("SELECT p.user.id, COUNT(p), COUNT(DISTINCT p.beaconId) FROM Post p " +
+            "WHERE p.user.id IN :userIds AND p.status = 'ACTIVE' " +
+            "GROUP BY p.user.id")
+    List<Object[]> countActiveStatsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT COUNT(DISTINCT p.beaconId) FROM Post p " +
+            "WHERE p.user.id = :userId AND p.status = 'ACTIVE'")
+    long countActiveBeaconsByUserId(@Param("userId") Long userId);
+
+    @Query(POST_VIEW_COLUMNS +
+            "WHERE u.id = :userId AND p.status = 'ACTIVE' " +
+            "ORDER BY p.createdAt DESC")
+    List<PostView> findViewsByUserId(@Param("userId") Long userId);
+
+    @Query(POST_VIEW_COLUMNS +
+            "WHERE p.beaconId = :beaconId AND p.status = 'ACTIVE' " +
+            "ORDER BY p.createdAt DESC")
+    List<PostView> findViewsByBeaconId(@Param("beaconId") String beaconId);
+
+    @Query(POST_VIEW_COLUMNS +
+            "WHERE u.id IN " + FRIEND_IDS +
             "AND p.status = 'ACTIVE' " +
             "AND p.createdAt < :lastCreatedAt " +
             "ORDER BY p.createdAt DESC")
-    List<Post> findFriendPosts(
+    List<PostView> findFriendPostViews(
             @Param("myUserId") Long myUserId,
             @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
             Pageable pageable
     );
 
-    @Query("SELECT p FROM Post p " +
-            "LEFT JOIN FETCH p.user " +
-            "WHERE p.user.id IN (" +
-            "SELECT f.receiver.id FROM Friendship f WHERE f.requester.id = :myUserId AND f.status = 'FRIENDSHIP' " +
-            "UNION " +
-            "SELECT f.requester.id FROM Friendship f WHERE f.receiver.id = :myUserId AND f.status = 'FRIENDSHIP'" +
-            ") " +
+    @Query(POST_VIEW_COLUMNS +
+            "WHERE u.id IN " + FRIEND_IDS +
             "AND p.status = 'ACTIVE' " +
             "ORDER BY p.createdAt DESC")
-    List<Post> findFriendPostsFirstPage(
+    List<PostView> findFriendPostViewsFirstPage(
             @Param("myUserId") Long myUserId,
             Pageable pageable
     );
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Post p SET p.status = 'ARCHIVED' " +
-            "WHERE p.status = 'ACTIVE' " +
-            "AND p.isAutoArchive = true " +
-            "AND p.createdAt < :expiryDate")
-    int archiveOldPosts(@Param("expiryDate") LocalDateTime expiryDate);
-}
\ No newline at end of file
+    @Query("SELECT c.post.id AS postId, u.id AS userId, u.nickname AS nickname, u.profileUrl AS profileUrl " +
+            "FROM PostCollaborator c JOIN c.user u " +
+            "WHERE c.post.id IN :postIds")
+    List<PostCollaboratorView> findCollaboratorViewsByPostIds(@Param("postIds") Collection<Long> postIds);
+}
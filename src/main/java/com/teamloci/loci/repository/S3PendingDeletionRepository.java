@@ -0,0 +1,14 @@
+package com.teamloci.loci.repository;
+
+import com.teamloci.loci.domain.S3PendingDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface S3PendingDeletionRepository extends JpaRepository<S3PendingDeletion, Long> {
+
+    @Query("SELECT d FROM S3PendingDeletion d ORDER BY d.id ASC")
+    List<S3PendingDeletion> findOldest(Pageable pageable);
+}
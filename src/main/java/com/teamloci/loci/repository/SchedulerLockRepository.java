@@ -0,0 +1,32 @@
+package com.teamloci.loci.repository;
+
+import com.teamloci.loci.domain.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 만료되었거나 이미 내가 가진 락만 가져간다. 행 단위 조건부 UPDATE 라 인스턴스 간 경쟁에도 한 곳만 성공한다
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SchedulerLock l SET l.lockedBy = :owner, l.lockedUntil = :lockedUntil " +
+            "WHERE l.name = :name AND (l.lockedUntil <= :now OR l.lockedBy = :owner)")
+    int tryAcquire(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("lockedUntil") LocalDateTime lockedUntil
+    );
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :now " +
+            "WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now
+    );
+}
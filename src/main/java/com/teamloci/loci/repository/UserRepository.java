@@ -1,12 +1,18 @@
 package com.teamloci.loci.repository;
 
 import com.teamloci.loci.domain.User;
+import com.teamloci.loci.domain.UserStatus;
+import com.teamloci.loci.repository.projection.UserProfileView;
+import com.teamloci.loci.repository.projection.UserSearchView;
+import com.teamloci.loci.repository.projection.UserSummaryView;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +26,35 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByBluetoothTokenIn(List<String> tokens);
     boolean existsByBluetoothToken(String bluetoothToken);
 
+    // 유저 카드 캐시 로더. 탈퇴한 유저는 카드로 내보내지 않는다
+    List<User> findAllByIdInAndStatus(Collection<Long> ids, UserStatus status);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT u FROM User u WHERE u.id = :userId")
     Optional<User> findByIdWithLock(@Param("userId") Long userId);
 
-    // List<User> findByHandleContainingOrNicknameContaining(String handle, String nickname);
-}
\ No newline at end of file
+    @Query("SELECT u.id AS id, u.handle AS handle, u.nickname AS nickname, " +
+            "u.profileUrl AS profileUrl, u.createdAt AS createdAt " +
+            "FROM User u WHERE u.id = :userId")
+    Optional<UserProfileView> findProfileViewById(@Param("userId") Long userId);
+
+    // users 와 user_stats 를 PK 로 한 번에 읽는다. 집계 행이 아직 없으면 0
+    @Query("SELECT u.id AS id, u.handle AS handle, u.nickname AS nickname, u.profileUrl AS profileUrl, " +
+            "COALESCE(s.friendCount, 0L) AS friendCount, COALESCE(s.postCount, 0L) AS postCount, " +
+            "COALESCE(s.beaconCount, 0L) AS beaconCount " +
+            "FROM User u LEFT JOIN UserStats s ON s.userId = u.id " +
+            "WHERE u.id = :userId AND u.status = 'ACTIVE'")
+    Optional<UserSummaryView> findSummaryViewById(@Param("userId") Long userId);
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastId ORDER BY u.id ASC")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 검색 인덱스 재구축용. LIKE 검색 대신 UserSearchIndex 를 쓴다
+    @Query("SELECT u.id AS id, u.handle AS handle, u.nickname AS nickname " +
+            "FROM User u WHERE u.id > :lastId AND u.status = 'ACTIVE' ORDER BY u.id ASC")
+    List<UserSearchView> findActiveSearchViewsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // S3 삭제 전에 프로필 이미지로 아직 쓰이는지 확인한다
+    @Query("SELECT DISTINCT u.profileUrl FROM User u WHERE u.profileUrl IN :urls")
+    List<String> findReferencedProfileUrls(@Param("urls") Collection<String> urls);
+}
@@ -0,0 +1,48 @@
+package com.teamloci.loci.repository;
+
+import com.teamloci.loci.domain.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+// 증감 UPDATE 는 호출한 쓰기 트랜잭션 안에서 실행되므로, 영속성 컨텍스트를 비우지 않는다(clearAutomatically 미사용)
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    @Query("SELECT s.userId FROM UserStats s WHERE s.userId IN :userIds")
+    List<Long> findExistingIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.friendCount = s.friendCount + :delta WHERE s.userId IN :userIds")
+    int addFriendCount(@Param("userIds") Collection<Long> userIds, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.postCount = s.postCount + :delta WHERE s.userId IN :userIds")
+    int addPostCount(@Param("userIds") Collection<Long> userIds, @Param("delta") long delta);
+
+    /**
+     * 집계 행이 없으면 현재 트랜잭션에서 보이는 원본(이번 변경 포함)으로 만들고, 있으면 delta 만큼 더한다.
+     * 호출한 트랜잭션 안에서 한 문장으로 끝나므로 커넥션을 더 잡지 않으며,
+     * 동시에 같은 행을 만들면 나중 문장은 먼저 커밋된 행을 기다렸다가 증감 쪽으로 처리된다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = SEED_INSERT + "ON DUPLICATE KEY UPDATE friend_count = friend_count + :delta", nativeQuery = true)
+    int upsertFriendCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = SEED_INSERT + "ON DUPLICATE KEY UPDATE post_count = post_count + :delta", nativeQuery = true)
+    int upsertPostCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    String SEED_INSERT = "INSERT INTO user_stats (user_id, friend_count, post_count, beacon_count) VALUES (:userId, " +
+            "(SELECT COUNT(*) FROM friendships f WHERE (f.requester_id = :userId OR f.receiver_id = :userId) " +
+            "AND f.status = 'FRIENDSHIP'), " +
+            "(SELECT COUNT(*) FROM posts p WHERE p.user_id = :userId AND p.status = 'ACTIVE'), " +
+            "(SELECT COUNT(DISTINCT p.beacon_id) FROM posts p WHERE p.user_id = :userId AND p.status = 'ACTIVE')) ";
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.beaconCount = :beaconCount WHERE s.userId = :userId")
+    int updateBeaconCount(@Param("userId") Long userId, @Param("beaconCount") long beaconCount);
+}
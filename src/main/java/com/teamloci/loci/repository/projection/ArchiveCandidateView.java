@@ -0,0 +1,8 @@
+package com.teamloci.loci.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface ArchiveCandidateView {
+    Long getId();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,8 @@
+package com.teamloci.loci.repository.projection;
+
+public interface PostCollaboratorView {
+    Long getPostId();
+    Long getUserId();
+    String getNickname();
+    String getProfileUrl();
+}
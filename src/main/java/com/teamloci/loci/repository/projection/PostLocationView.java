@@ -0,0 +1,7 @@
+package com.teamloci.loci.repository.projection;
+
+public interface PostLocationView {
+    Long getUserId();
+    Double getLatitude();
+    Double getLongitude();
+}
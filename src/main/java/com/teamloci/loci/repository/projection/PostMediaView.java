@@ -0,0 +1,11 @@
+package com.teamloci.loci.repository.projection;
+
+import com.teamloci.loci.domain.MediaType;
+
+public interface PostMediaView {
+    Long getPostId();
+    Long getId();
+    String getMediaUrl();
+    MediaType getMediaType();
+    int getSortOrder();
+}
@@ -0,0 +1,17 @@
+package com.teamloci.loci.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface PostView {
+    Long getId();
+    Double getLatitude();
+    Double getLongitude();
+    String getLocationName();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    boolean isAutoArchive();
+
+    Long getUserId();
+    String getUserNickname();
+    String getUserProfileUrl();
+}
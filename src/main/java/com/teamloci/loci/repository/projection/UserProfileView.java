@@ -0,0 +1,11 @@
+package com.teamloci.loci.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface UserProfileView {
+    Long getId();
+    String getHandle();
+    String getNickname();
+    String getProfileUrl();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,7 @@
+package com.teamloci.loci.repository.projection;
+
+public interface UserSearchView {
+    Long getId();
+    String getHandle();
+    String getNickname();
+}
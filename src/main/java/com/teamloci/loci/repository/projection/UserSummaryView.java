@@ -0,0 +1,11 @@
+package com.teamloci.loci.repository.projection;
+
+public interface UserSummaryView {
+    Long getId();
+    String getHandle();
+    String getNickname();
+    String getProfileUrl();
+    long getFriendCount();
+    long getPostCount();
+    long getBeaconCount();
+}
@@ -29,6 +29,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final AesUtil aesUtil;
+    private final UserSearchService userSearchService;
 
     private static final SecureRandom random = new SecureRandom();
     private static final HexFormat hexFormat = HexFormat.of();
@@ -90,6 +91,8 @@ public class AuthService {
         if (user.getBluetoothToken() == null) {
             user.updateBluetoothToken(generateUniqueBluetoothToken());
         }
+
+        userSearchService.indexAfterCommit(user.getId(), user.getHandle(), user.getNickname());
     }
 
 
@@ -7,9 +7,14 @@ import com.teamloci.loci.domain.User;
 import com.teamloci.loci.dto.ChatDto;
 import com.teamloci.loci.global.exception.CustomException;
 import com.teamloci.loci.global.exception.code.ErrorCode;
+import com.teamloci.loci.global.metrics.FirestoreMetrics;
 import com.teamloci.loci.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -18,16 +23,31 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "loci.service", histogram = true)
 public class ChatService {
 
     private final Firestore firestore;
     private final NotificationService notificationService;
     private final UserRepository userRepository;
+    private final FirestoreMetrics firestoreMetrics;
+    private final PushService pushService;
+
+    private static final String UNREAD_SHARDS = "unread_shards";
+    // 샤드 도입 전에 방 문서에 쌓던 안 읽은 수. 읽음 처리할 때 지우며, 그 전까지는 샤드 합계에 더한다
+    private static final String LEGACY_UNREAD_COUNT = "unreadCount";
+
+    // 방 ID → 아직 쓰지 않은 최신 요약. 같은 방의 요약은 주기마다 한 번만 쓴다
+    private final Map<String, Map<String, Object>> pendingRoomSummaries = new ConcurrentHashMap<>();
+
+    @Value("${chat.unread-shard-count:10}")
+    private int unreadShardCount;
 
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
@@ -48,6 +68,10 @@ public class ChatService {
 
         updateRoomSummary(roomId, sender, receiver, messageData);
 
+        incrementUnreadCount(roomId, receiverId);
+
+        pushService.chatRoomUpdated(roomId, senderId, receiverId, messageText);
+
         sendFcmForMessage(receiver, sender.getNickname(), messageText);
     }
 
@@ -60,17 +84,19 @@ public class ChatService {
     }
 
     private void addMessageToFirestore(String roomId, Map<String, Object> messageData) {
-        firestore.collection("chat_rooms").document(roomId)
-                .collection("messages").add(messageData);
+        firestoreMetrics.record("addMessage", firestore.collection("chat_rooms").document(roomId)
+                .collection("messages").add(messageData));
     }
 
+    /**
+     * 방 문서는 문서당 초당 1회 정도의 지속 쓰기만 견디므로, 메시지마다 쓰지 않고 최신 요약만 남겨 두었다가
+     * flushRoomSummaries 가 주기(chat.room-summary-flush-millis)마다 방별로 한 번씩 쓴다.
+     * 채팅 목록의 마지막 메시지는 최대 한 주기 늦을 수 있고, 실시간 반영은 푸시(CHAT_ROOM_UPDATED)가 맡는다.
+     */
     private void updateRoomSummary(String roomId, User sender, User receiver, Map<String, Object> messageData) {
-        DocumentReference roomRef = firestore.collection("chat_rooms").document(roomId);
-
         Map<String, Object> roomUpdate = new HashMap<>();
         roomUpdate.put("lastMessage", messageData);
         roomUpdate.put("updatedAt", FieldValue.serverTimestamp());
-        roomUpdate.put("unreadCount." + String.valueOf(receiver.getId()), FieldValue.increment(1));
 
         roomUpdate.put("participants", List.of(sender.getId(), receiver.getId()));
         roomUpdate.put("participantInfo." + sender.getId(),
@@ -80,7 +106,67 @@ public class ChatService {
                 Map.of("nickname", receiver.getNickname(), "profileUrl", receiver.getProfileUrl() != null ? receiver.getProfileUrl() : "")
         );
 
-        roomRef.set(roomUpdate, SetOptions.merge());
+        pendingRoomSummaries.put(roomId, roomUpdate);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${chat.room-summary-flush-millis:1000}")
+    public void flushRoomSummaries() {
+        for (String roomId : List.copyOf(pendingRoomSummaries.keySet())) {
+            Map<String, Object> roomUpdate = pendingRoomSummaries.remove(roomId);
+            if (roomUpdate == null) {
+                continue;
+            }
+            DocumentReference roomRef = firestore.collection("chat_rooms").document(roomId);
+            firestoreMetrics.record("updateRoomSummary", roomRef.set(roomUpdate, SetOptions.merge()));
+        }
+    }
+
+    // 안 읽은 수는 방 문서 대신 샤드 문서에 분산해서 증가시킨다 (문서당 쓰기 제한 회피)
+    private void incrementUnreadCount(String roomId, Long receiverId) {
+        int shard = ThreadLocalRandom.current().nextInt(unreadShardCount);
+
+        Map<String, Object> shardUpdate = new HashMap<>();
+        shardUpdate.put("roomId", roomId);
+        shardUpdate.put("userId", receiverId);
+        shardUpdate.put("count", FieldValue.increment(1));
+
+        firestoreMetrics.record("incrementUnread", unreadShardRef(roomId, receiverId, shard).set(shardUpdate, SetOptions.merge()));
+    }
+
+    private DocumentReference unreadShardRef(String roomId, Long userId, int shard) {
+        return firestore.collection("chat_rooms").document(roomId)
+                .collection(UNREAD_SHARDS).document(userId + "_" + shard);
+    }
+
+    public void markAsRead(Long myUserId, String roomId) {
+        validateParticipant(myUserId, roomId);
+
+        WriteBatch batch = firestore.batch();
+        for (int shard = 0; shard < unreadShardCount; shard++) {
+            batch.delete(unreadShardRef(roomId, myUserId, shard));
+        }
+        // set(merge) 는 없는 방 ID 에도 빈 문서를 만들므로, 방 문서가 없으면 실패하는 update 로 지운다
+        batch.update(firestore.collection("chat_rooms").document(roomId),
+                FieldPath.of(LEGACY_UNREAD_COUNT, String.valueOf(myUserId)), FieldValue.delete());
+        firestoreMetrics.record("markAsRead", batch.commit());
+    }
+
+    private void validateParticipant(Long userId, String roomId) {
+        String[] participantIds = roomId.split("_");
+        if (participantIds.length != 2) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        try {
+            long first = Long.parseLong(participantIds[0]);
+            long second = Long.parseLong(participantIds[1]);
+            if (first != userId && second != userId) {
+                throw new CustomException(ErrorCode.NOT_CHAT_PARTICIPANT);
+            }
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
     }
 
     private void sendFcmForMessage(User receiver, String senderNickname, String messageText) {
@@ -96,16 +182,21 @@ public class ChatService {
 
     public List<ChatDto.ChatRoomResponse> getChatRooms(Long myUserId) {
 
-        ApiFuture<QuerySnapshot> future = firestore.collection("chat_rooms")
+        ApiFuture<QuerySnapshot> future = firestoreMetrics.record("listRooms", firestore.collection("chat_rooms")
                 .whereArrayContains("participants", myUserId)
                 .orderBy("updatedAt", Query.Direction.DESCENDING)
-                .get();
+                .get());
+
+        ApiFuture<QuerySnapshot> unreadFuture = firestoreMetrics.record("listUnreadShards", firestore.collectionGroup(UNREAD_SHARDS)
+                .whereEqualTo("userId", myUserId)
+                .get());
 
         try {
             List<QueryDocumentSnapshot> documents = future.get().getDocuments();
+            Map<String, Long> unreadCounts = sumUnreadShards(unreadFuture.get().getDocuments());
 
             return documents.stream()
-                    .map(this::mapDocumentToChatRoomResponse)
+                    .map(doc -> mapDocumentToChatRoomResponse(doc, myUserId, unreadCounts))
                     .collect(Collectors.toList());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -117,7 +208,19 @@ public class ChatService {
         }
     }
 
-    private ChatDto.ChatRoomResponse mapDocumentToChatRoomResponse(QueryDocumentSnapshot doc) {
+    private Map<String, Long> sumUnreadShards(List<QueryDocumentSnapshot> shards) {
+        Map<String, Long> unreadCounts = new HashMap<>();
+        for (QueryDocumentSnapshot shard : shards) {
+            String roomId = shard.getString("roomId");
+            Long count = shard.getLong("count");
+            if (roomId != null && count != null) {
+                unreadCounts.merge(roomId, count, Long::sum);
+            }
+        }
+        return unreadCounts;
+    }
+
+    private ChatDto.ChatRoomResponse mapDocumentToChatRoomResponse(QueryDocumentSnapshot doc, Long myUserId, Map<String, Long> unreadCounts) {
 
         ChatDto.LastMessageInfo lastMessageInfo = null;
         if (doc.get("lastMessage") instanceof Map) {
@@ -143,15 +246,13 @@ public class ChatService {
             }
         }
 
-        Map<String, Long> unreadCount = new HashMap<>();
-        if (doc.get("unreadCount") instanceof Map) {
-            Map<String, Object> unreadCountMap = (Map<String, Object>) doc.get("unreadCount");
-            unreadCountMap.forEach((key, value) -> {
-                if (value instanceof Number) {
-                    unreadCount.put(key, ((Number) value).longValue());
-                }
-            });
+        String myKey = String.valueOf(myUserId);
+        long legacyUnread = 0L;
+        if (doc.get(LEGACY_UNREAD_COUNT) instanceof Map<?, ?> legacy && legacy.get(myKey) instanceof Number count) {
+            legacyUnread = count.longValue();
         }
+        Map<String, Long> unreadCount = new HashMap<>();
+        unreadCount.put(myKey, unreadCounts.getOrDefault(doc.getId(), 0L) + legacyUnread);
 
         List<Long> participants = new ArrayList<>();
         if (doc.get("participants") instanceof List) {
@@ -0,0 +1,190 @@
+package com.teamloci.loci.service;
+
+import com.teamloci.loci.domain.ContentVersion;
+import com.teamloci.loci.domain.FriendshipStatus;
+import com.teamloci.loci.global.event.PostsArchivedEvent;
+import com.teamloci.loci.global.util.GeoUtils;
+import com.teamloci.loci.repository.ContentVersionRepository;
+import com.teamloci.loci.repository.FriendshipRepository;
+import com.teamloci.loci.repository.PostRepository;
+import com.teamloci.loci.repository.projection.PostLocationView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 피드/지도/프로필 응답의 버전 스탬프를 관리한다. 컨트롤러는 이 버전으로 ETag 를 만들어,
+ * 변경이 없으면 무거운 조회 없이 304 를 돌려준다.
+ * 버전은 쓰기 트랜잭션의 커밋 직전에 같은 트랜잭션 안에서 올린다. 데이터와 버전이 함께 커밋되므로 새 버전에 옛 데이터가 묶이지 않고,
+ * 버전 갱신이 실패하면 쓰기도 롤백되어 클라이언트가 오래된 304 를 계속 받는 일이 없다.
+ * 행 락은 커밋 직전에만, 정렬된 키 순서로 잡는다.
+ */
+@Slf4j
+@Service
+public class ContentVersionService {
+
+    private static final int MAX_KEYS_PER_QUERY = 500;
+    // 이보다 넓은 지도 범위는 ETag 없이 매번 조회한다
+    private static final int MAX_MAP_REGIONS = 256;
+
+    private final ContentVersionRepository contentVersionRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final PostRepository postRepository;
+    private final GeoUtils geoUtils;
+    private final TransactionTemplate transactionTemplate;
+
+    public ContentVersionService(
+            ContentVersionRepository contentVersionRepository,
+            FriendshipRepository friendshipRepository,
+            PostRepository postRepository,
+            GeoUtils geoUtils,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.contentVersionRepository = contentVersionRepository;
+        this.friendshipRepository = friendshipRepository;
+        this.postRepository = postRepository;
+        this.geoUtils = geoUtils;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public static String feedKey(Long userId) {
+        return "feed:" + userId;
+    }
+
+    public static String profileKey(Long userId) {
+        return "profile:" + userId;
+    }
+
+    public static String regionKey(String regionId) {
+        return "region:" + regionId;
+    }
+
+    public long version(String key) {
+        return contentVersionRepository.findById(key)
+                .map(ContentVersion::getVersion)
+                .orElse(0L);
+    }
+
+    // 키 순서로 정렬된 (키, 버전). 행이 없으면 0
+    public Map<String, Long> versions(Collection<String> keys) {
+        Map<String, Long> versions = new TreeMap<>();
+        keys.forEach(key -> versions.put(key, 0L));
+        contentVersionRepository.findAllById(keys)
+                .forEach(version -> versions.put(version.getVersionKey(), version.getVersion()));
+        return versions;
+    }
+
+    // 지도 범위와 겹치는 지역들의 버전. 범위가 너무 넓으면 null
+    public Map<String, Long> regionVersionsInBox(Double minLat, Double maxLat, Double minLon, Double maxLon) {
+        Set<String> regionIds = geoUtils.regionIdsInBox(minLat, maxLat, minLon, maxLon, MAX_MAP_REGIONS);
+        if (regionIds == null) {
+            return null;
+        }
+        return versions(regionIds.stream().map(ContentVersionService::regionKey).toList());
+    }
+
+    // 작성자의 포스트가 보이는 친구들의 피드와, 포스트 위치의 지도 영역
+    public void postChanged(Long authorId, Double latitude, Double longitude) {
+        Set<String> keys = new HashSet<>(friendFeedKeys(List.of(authorId)));
+        if (latitude != null && longitude != null) {
+            keys.add(regionKey(geoUtils.latLngToRegionId(latitude, longitude)));
+        }
+        bumpBeforeCommit(keys);
+    }
+
+    // 포스트가 다른 위치로 옮겨지면 원래 위치의 지도 영역도 바뀐다
+    public void regionChanged(Double latitude, Double longitude) {
+        if (latitude != null && longitude != null) {
+            bumpBeforeCommit(List.of(regionKey(geoUtils.latLngToRegionId(latitude, longitude))));
+        }
+    }
+
+    public void friendshipChanged(Long userId, Long otherUserId) {
+        bumpBeforeCommit(List.of(feedKey(userId), feedKey(otherUserId)));
+    }
+
+    // 닉네임/프로필 사진은 친구들의 피드에도 작성자 정보로 실린다
+    public void profileChanged(Long userId) {
+        Set<String> keys = new HashSet<>(friendFeedKeys(List.of(userId)));
+        keys.add(profileKey(userId));
+        bumpBeforeCommit(keys);
+    }
+
+    // 보관 청크 트랜잭션 안에서 발행되므로, 버전 갱신이 실패하면 그 청크의 보관도 롤백된다
+    @EventListener
+    public void onPostsArchived(PostsArchivedEvent event) {
+        List<PostLocationView> locations = postRepository.findLocationViewsByIds(event.getPostIds());
+
+        Set<Long> authorIds = new HashSet<>();
+        Set<String> keys = new HashSet<>();
+        for (PostLocationView location : locations) {
+            authorIds.add(location.getUserId());
+            keys.add(regionKey(geoUtils.latLngToRegionId(location.getLatitude(), location.getLongitude())));
+        }
+        keys.addAll(friendFeedKeys(authorIds));
+        transactionTemplate.executeWithoutResult(status -> bump(keys));
+    }
+
+    private Set<String> friendFeedKeys(Collection<Long> userIds) {
+        Set<String> keys = new HashSet<>();
+        if (userIds.isEmpty()) {
+            return keys;
+        }
+        friendshipRepository.findReceiverIdsByRequesterIds(userIds, FriendshipStatus.FRIENDSHIP)
+                .forEach(friendId -> keys.add(feedKey(friendId)));
+        friendshipRepository.findRequesterIdsByReceiverIds(userIds, FriendshipStatus.FRIENDSHIP)
+                .forEach(friendId -> keys.add(feedKey(friendId)));
+        return keys;
+    }
+
+    private void bumpBeforeCommit(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> bump(keys));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                bump(keys);
+            }
+        });
+    }
+
+    // 현재 트랜잭션 안에서 올린다. 실패하면 예외가 그대로 올라가 쓰기가 롤백된다.
+    // 교착을 피하도록 항상 같은 순서(정렬)로 갱신한다
+    private void bump(Collection<String> keys) {
+        List<String> sorted = new ArrayList<>(new TreeSet<>(keys));
+        for (int from = 0; from < sorted.size(); from += MAX_KEYS_PER_QUERY) {
+            List<String> chunk = sorted.subList(from, Math.min(from + MAX_KEYS_PER_QUERY, sorted.size()));
+            ensureExists(chunk);
+            int updated = contentVersionRepository.increment(chunk);
+            if (updated != chunk.size()) {
+                log.error("[ContentVersion] 버전 갱신 누락 ({}건 중 {}건)", chunk.size(), updated);
+                throw new IllegalStateException("콘텐츠 버전 갱신 실패");
+            }
+        }
+    }
+
+    // 현재 트랜잭션(같은 커넥션) 안에서 없는 행만 만든다. 별도 트랜잭션을 열면 쓰기마다 커넥션을 두 개 잡게 된다
+    private void ensureExists(List<String> keys) {
+        Set<String> missing = new TreeSet<>(keys);
+        contentVersionRepository.findExistingKeys(keys).forEach(missing::remove);
+        missing.forEach(contentVersionRepository::insertIfAbsent);
+    }
+}
@@ -11,6 +11,7 @@ import com.teamloci.loci.global.exception.code.ErrorCode;
 import com.teamloci.loci.global.util.AesUtil;
 import com.teamloci.loci.repository.FriendshipRepository;
 import com.teamloci.loci.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
+@Timed(value = "loci.service", histogram = true)
 public class FriendService {
 
     private static final int MAX_FRIEND_LIMIT = 20;
@@ -30,6 +32,9 @@ public class FriendService {
     private final FriendshipRepository friendshipRepository;
     private final NotificationService notificationService;
     private final AesUtil aesUtil;
+    private final ContentVersionService contentVersionService;
+    private final PushService pushService;
+    private final UserStatsService userStatsService;
 
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
@@ -85,6 +90,9 @@ public class FriendService {
                 .build();
 
         friendshipRepository.save(friendship);
+        contentVersionService.friendshipChanged(myUserId, targetUserId);
+        userStatsService.friendshipAdded(myUserId, targetUserId);
+        pushService.friendAdded(targetUserId, myUserId, me.getNickname(), me.getProfileUrl());
 
         if (StringUtils.hasText(target.getFcmToken())) {
             notificationService.sendFriendRequestNotification(target.getFcmToken(), me.getNickname());
@@ -92,9 +100,8 @@ public class FriendService {
     }
 
     public List<UserDto.UserResponse> getMyFriends(Long myUserId) {
-        return friendshipRepository.findAllFriendsWithUsers(myUserId, FriendshipStatus.FRIENDSHIP)
+        return friendshipRepository.findFriendProfiles(myUserId, FriendshipStatus.FRIENDSHIP)
                 .stream()
-                .map(f -> f.getRequester().getId().equals(myUserId) ? f.getReceiver() : f.getRequester())
                 .map(UserDto.UserResponse::from)
                 .collect(Collectors.toList());
     }
@@ -105,5 +112,7 @@ public class FriendService {
                 .findFriendshipBetweenUsersByStatus(myUserId, friendId, FriendshipStatus.FRIENDSHIP)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FRIENDS));
         friendshipRepository.delete(friendship);
+        contentVersionService.friendshipChanged(myUserId, friendId);
+        userStatsService.friendshipRemoved(myUserId, friendId);
     }
 }
\ No newline at end of file
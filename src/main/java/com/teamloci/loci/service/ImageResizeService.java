@@ -0,0 +1,409 @@
+package com.teamloci.loci.service;
+
+import com.teamloci.loci.global.exception.CustomException;
+import com.teamloci.loci.global.exception.code.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class ImageResizeService {
+
+    public static final String FORMAT_JPG = "jpg";
+    public static final String FORMAT_PNG = "png";
+    private static final Set<String> ALPHA_FORMATS = Set.of("png", "gif", "webp");
+
+    private final S3UploadService s3UploadService;
+    private final ThumbnailCache thumbnailCache;
+    private final ExecutorService resizeExecutor;
+    private final ExecutorService ioExecutor;
+    private final int[] pregenerateSizes;
+    private final Map<String, Float> qualities;
+    private final MeterRegistry meterRegistry;
+
+    // 같은 (key, w, h) 요청이 동시에 들어오면 하나의 작업 결과를 공유한다
+    private final ConcurrentHashMap<String, CompletableFuture<ThumbnailCache.Thumbnail>> inFlight = new ConcurrentHashMap<>();
+
+    public ImageResizeService(
+            S3UploadService s3UploadService,
+            ThumbnailCache thumbnailCache,
+            MeterRegistry meterRegistry,
+            @Value("${image.resize.queue-capacity:64}") int resizeQueueCapacity,
+            @Value("${image.resize.io-threads:16}") int ioThreads,
+            @Value("${image.pregenerate.sizes:64,200,600,1080}") int[] pregenerateSizes,
+            @Value("${image.quality.jpg:0.82}") float jpgQuality
+    ) {
+        this.s3UploadService = s3UploadService;
+        this.thumbnailCache = thumbnailCache;
+        this.meterRegistry = meterRegistry;
+        this.pregenerateSizes = pregenerateSizes;
+        // PNG 는 무손실이므로 품질 설정을 두지 않는다
+        this.qualities = Map.of(FORMAT_JPG, jpgQuality);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        this.resizeExecutor = new ThreadPoolExecutor(
+                cores, cores,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(resizeQueueCapacity),
+                namedThreads("image-resize-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.ioExecutor = Executors.newFixedThreadPool(ioThreads, namedThreads("image-io-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resizeExecutor.shutdown();
+        ioExecutor.shutdown();
+    }
+
+    // 한 원본의 모든 변형이 resized/{originalKey}/ 아래에 모이도록 한다
+    public static String resizedKey(String originalKey, int w, int h, String format) {
+        return "resized/" + originalKey + "/w" + w + "_h" + h + "." + format;
+    }
+
+    public static String extensionOf(String key) {
+        if (key.contains(".")) {
+            return key.substring(key.lastIndexOf(".") + 1).toLowerCase();
+        }
+        return "jpg";
+    }
+
+    public static String contentTypeOf(String format) {
+        return FORMAT_JPG.equals(format) ? "image/jpeg" : "image/" + format;
+    }
+
+    /**
+     * 투명도가 있을 수 있는 원본(PNG/GIF/WebP)은 PNG 로, 나머지는 JPEG 로 내려준다.
+     * WebP 원본은 twelvemonkeys 플러그인으로 읽을 수 있지만, 클래스패스에 WebP 인코더가 없으므로 WebP 로 내보내지는 않는다.
+     */
+    public static String outputFormat(String originalKey) {
+        return ALPHA_FORMATS.contains(extensionOf(originalKey)) ? FORMAT_PNG : FORMAT_JPG;
+    }
+
+    public CompletableFuture<ThumbnailCache.Thumbnail> resize(String originalKey, int w, int h, String format) {
+        String resizedKey = resizedKey(originalKey, w, h, format);
+
+        ThumbnailCache.Thumbnail cached = thumbnailCache.get(resizedKey);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<ThumbnailCache.Thumbnail> created = new CompletableFuture<>();
+        CompletableFuture<ThumbnailCache.Thumbnail> existing = inFlight.putIfAbsent(resizedKey, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        submit(() -> loadStored(resizedKey, format), ioExecutor)
+                .thenCompose(stored -> stored != null
+                        ? CompletableFuture.completedFuture(stored)
+                        : createResized(originalKey, resizedKey, format, w, h))
+                .whenComplete((thumbnail, e) -> {
+                    inFlight.remove(resizedKey, created);
+                    if (e != null) {
+                        created.completeExceptionally(unwrap(e));
+                    } else {
+                        created.complete(thumbnail);
+                    }
+                });
+
+        return created;
+    }
+
+    /**
+     * 캐시가 돌려준 디스크 파일을 열 수 없을 때(교체·축출 경합 등) 해당 항목을 내리고 다시 만든다.
+     */
+    public CompletableFuture<ThumbnailCache.Thumbnail> reload(String originalKey, int w, int h, String format,
+                                                             ThumbnailCache.Thumbnail stale) {
+        thumbnailCache.invalidate(resizedKey(originalKey, w, h, format), stale);
+        return resize(originalKey, w, h, format);
+    }
+
+    /**
+     * 업로드 직후 표준 크기 썸네일을 미리 만들어 두어, 첫 조회도 캐시 히트가 되도록 한다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 시작하며, 원본은 한 번만 디코딩한다.
+     */
+    public void pregenerate(String fileUrl) {
+        if (pregenerateSizes.length == 0 || fileUrl == null || fileUrl.isBlank()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    startPregeneration(fileUrl);
+                }
+            });
+        } else {
+            startPregeneration(fileUrl);
+        }
+    }
+
+    private void startPregeneration(String fileUrl) {
+        String originalKey = s3UploadService.extractKeyFromUrl(fileUrl);
+
+        // 동영상 등 디코딩할 수 없는 파일은 건너뛴다
+        if (!ImageIO.getImageReadersBySuffix(extensionOf(originalKey)).hasNext()) {
+            return;
+        }
+
+        submit(() -> downloadOriginal(originalKey), ioExecutor)
+                .thenCompose(original -> submit(() -> resizeVariants(originalKey, original), resizeExecutor)
+                        .whenComplete((variants, e) -> deleteQuietly(original)))
+                .thenAccept(variants -> variants.forEach((resizedKey, image) -> submit(() -> {
+                    s3UploadService.uploadBytes(image.getBytes(), resizedKey, image.getContentType());
+                    return thumbnailCache.put(resizedKey, image.getBytes(), image.getContentType());
+                }, ioExecutor).exceptionally(e -> {
+                    log.warn("썸네일 사전 생성 저장 실패 [Key: {}]: {}", resizedKey, e.getMessage());
+                    return null;
+                })))
+                .exceptionally(e -> {
+                    // 사전 생성은 최선 노력이며, 실패해도 첫 조회 시 온디맨드로 만들어진다
+                    log.warn("썸네일 사전 생성 실패 [Key: {}]: {}", originalKey, e.getMessage());
+                    return null;
+                });
+    }
+
+    private Map<String, ResizedImage> resizeVariants(String originalKey, Path original) {
+        int largest = Arrays.stream(pregenerateSizes).max().orElseThrow();
+        Map<String, ResizedImage> variants = new LinkedHashMap<>();
+        try {
+            BufferedImage decoded = decodeSubsampled(original, largest, largest);
+            if (decoded == null) {
+                throw new CustomException(ErrorCode.FILE_IS_EMPTY);
+            }
+            String format = outputFormat(originalKey);
+            for (int size : pregenerateSizes) {
+                variants.put(resizedKey(originalKey, size, size, format), encode(decoded, format, size, size));
+            }
+            return variants;
+        } catch (IOException e) {
+            log.error("이미지 리사이징 실패 [Key: {}]: {}", originalKey, e.getMessage());
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+
+    private ThumbnailCache.Thumbnail loadStored(String resizedKey, String format) {
+        try (ResponseInputStream<GetObjectResponse> stored = s3UploadService.openStream(resizedKey)) {
+            return thumbnailCache.put(resizedKey, stored, contentTypeOf(format));
+        } catch (NoSuchKeyException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CompletableFuture<ThumbnailCache.Thumbnail> createResized(String originalKey, String resizedKey, String format, int w, int h) {
+        return submit(() -> downloadOriginal(originalKey), ioExecutor)
+                .thenCompose(original -> submit(() -> resizeFile(originalKey, original, format, w, h), resizeExecutor)
+                        .whenComplete((image, e) -> deleteQuietly(original)))
+                .thenApply(image -> {
+                    // 응답은 S3 저장을 기다리지 않는다
+                    submit(() -> {
+                        s3UploadService.uploadBytes(image.getBytes(), resizedKey, image.getContentType());
+                        return null;
+                    }, ioExecutor).exceptionally(e -> {
+                        log.error("리사이징 이미지 S3 저장 실패 [Key: {}]: {}", resizedKey, e.getMessage());
+                        return null;
+                    });
+                    return image;
+                })
+                .thenCompose(image -> submit(() -> thumbnailCache.put(resizedKey, image.getBytes(), image.getContentType()), ioExecutor));
+    }
+
+    // 원본은 힙 대신 임시 파일로 내려받아, 리사이징 스레드가 네트워크를 기다리지 않게 한다
+    private Path downloadOriginal(String originalKey) {
+        try {
+            Path original = Files.createTempFile("loci-original-", null);
+            try (ResponseInputStream<GetObjectResponse> in = s3UploadService.openStream(originalKey)) {
+                Files.copy(in, original, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException | RuntimeException e) {
+                deleteQuietly(original);
+                throw e;
+            }
+            return original;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ResizedImage resizeFile(String originalKey, Path original, String format, int w, int h) {
+        try {
+            BufferedImage originalImage = decodeSubsampled(original, w, h);
+
+            if (originalImage == null) {
+                throw new CustomException(ErrorCode.FILE_IS_EMPTY);
+            }
+
+            return encode(originalImage, format, w, h);
+        } catch (IOException e) {
+            log.error("이미지 리사이징 실패 [Key: {}]: {}", originalKey, e.getMessage());
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+
+    private ResizedImage encode(BufferedImage image, String format, int w, int h) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return doEncode(image, format, w, h);
+        } finally {
+            sample.stop(resizeTimer("image.resize.encode", format));
+        }
+    }
+
+    private ResizedImage doEncode(BufferedImage image, String format, int w, int h) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(image)
+                .size(w, h)
+                .outputFormat(format);
+
+        Float quality = qualities.get(format);
+        if (quality != null) {
+            builder.outputQuality(quality);
+        }
+        builder.toOutputStream(outputStream);
+
+        return new ResizedImage(outputStream.toByteArray(), contentTypeOf(format));
+    }
+
+    // 헤더에서 원본 크기만 먼저 읽고, 목표 크기의 2배 이상은 유지하는 선에서 건너뛰며 디코딩한다.
+    // 48MP 원본도 200px 썸네일이면 1/16 이하의 픽셀만 메모리에 올라가며, 최종 품질은 Thumbnailator 가 맡는다.
+    private BufferedImage decodeSubsampled(Path original, int w, int h) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return doDecodeSubsampled(original, w, h);
+        } finally {
+            sample.stop(resizeTimer("image.resize.decode", null));
+        }
+    }
+
+    private BufferedImage doDecodeSubsampled(Path original, int w, int h) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = subsamplingFactor(sourceWidth, sourceHeight, w, h);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private Timer resizeTimer(String name, String format) {
+        Timer.Builder builder = Timer.builder(name).publishPercentileHistogram();
+        if (format != null) {
+            builder.tag("format", format);
+        }
+        return builder.register(meterRegistry);
+    }
+
+    static int subsamplingFactor(int sourceWidth, int sourceHeight, int w, int h) {
+        // Thumbnailator 의 size(w, h)는 비율을 유지하며 박스 안에 맞추므로 더 많이 줄어드는 축이 기준이 된다
+        double ratio = Math.max((double) sourceWidth / w, (double) sourceHeight / h);
+        return Math.max(1, (int) Math.floor(ratio / 2));
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패 [{}]: {}", file, e.getMessage());
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task, ExecutorService executor) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new CustomException(ErrorCode.IMAGE_RESIZE_BUSY));
+        }
+    }
+
+    private Throwable unwrap(Throwable e) {
+        Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+        if (cause instanceof CustomException) {
+            return cause;
+        }
+        if (cause instanceof NoSuchKeyException) {
+            return new CustomException(ErrorCode.NOT_FOUND, cause);
+        }
+        log.error("이미지 처리 실패: {}", cause.getMessage());
+        return new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, cause);
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ResizedImage {
+        private final byte[] bytes;
+        private final String contentType;
+    }
+}
@@ -0,0 +1,132 @@
+package com.teamloci.loci.service;
+
+import com.teamloci.loci.domain.MediaUpload;
+import com.teamloci.loci.domain.MediaUploadStatus;
+import com.teamloci.loci.domain.User;
+import com.teamloci.loci.dto.FileDto;
+import com.teamloci.loci.global.exception.CustomException;
+import com.teamloci.loci.global.exception.code.ErrorCode;
+import com.teamloci.loci.repository.MediaUploadRepository;
+import com.teamloci.loci.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MediaUploadService {
+
+    private final MediaUploadRepository mediaUploadRepository;
+    private final UserRepository userRepository;
+    private final S3UploadService s3UploadService;
+    private final ImageResizeService imageResizeService;
+    private final S3DeletionQueue s3DeletionQueue;
+
+    @Value("${upload.presigned.max-bytes:524288000}")
+    private long maxBytes;
+
+    @Value("${upload.presigned.expiry-minutes:10}")
+    private long expiryMinutes;
+
+    @Value("${upload.presigned.directories:posts,profiles}")
+    private String[] allowedDirectories;
+
+    @Transactional
+    public FileDto.PresignedUploadResponse issue(Long userId, FileDto.PresignedUploadRequest request) {
+        String contentType = request.getContentType();
+        boolean isMedia = contentType.startsWith("image/") || contentType.startsWith("video/");
+
+        if (!isMedia || request.getSize() > maxBytes
+                || !Arrays.asList(allowedDirectories).contains(request.getDirectory())) {
+            throw new CustomException(ErrorCode.INVALID_UPLOAD_REQUEST);
+        }
+
+        User uploader = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        String key = s3UploadService.createKey(request.getDirectory(), request.getFileName());
+        Duration expiresIn = Duration.ofMinutes(expiryMinutes);
+        String uploadUrl = s3UploadService.presignPut(key, contentType, request.getSize(), expiresIn);
+
+        mediaUploadRepository.save(MediaUpload.builder()
+                .uploader(uploader)
+                .objectKey(key)
+                .contentType(contentType)
+                .size(request.getSize())
+                .build());
+
+        return new FileDto.PresignedUploadResponse(
+                uploadUrl,
+                s3UploadService.getFileUrl(key),
+                LocalDateTime.now().plus(expiresIn)
+        );
+    }
+
+    @Transactional
+    public FileDto.FileUploadResponse complete(Long userId, FileDto.UploadCompleteRequest request) {
+        String key = s3UploadService.extractKeyFromUrl(request.getFileUrl());
+
+        MediaUpload upload = mediaUploadRepository.findByObjectKey(key)
+                .orElseThrow(() -> new CustomException(ErrorCode.UPLOAD_NOT_FOUND));
+
+        if (!upload.getUploader().getId().equals(userId)) {
+            throw new CustomException(ErrorCode.NOT_UPLOAD_OWNER);
+        }
+
+        String fileUrl = s3UploadService.getFileUrl(key);
+        if (upload.getStatus() == MediaUploadStatus.VERIFIED) {
+            return new FileDto.FileUploadResponse(fileUrl);
+        }
+
+        HeadObjectResponse object;
+        try {
+            object = s3UploadService.headObject(key);
+        } catch (NoSuchKeyException e) {
+            throw new CustomException(ErrorCode.UPLOAD_NOT_FOUND);
+        }
+
+        boolean sizeMatches = object.contentLength() != null && object.contentLength() == upload.getSize();
+        boolean typeMatches = upload.getContentType().equalsIgnoreCase(object.contentType());
+        if (!sizeMatches || !typeMatches) {
+            // 예외로 트랜잭션이 롤백되므로, 롤백된 뒤 별도 트랜잭션으로 삭제 요청을 남긴다
+            s3DeletionQueue.deleteOnRollback(fileUrl);
+            throw new CustomException(ErrorCode.UPLOAD_VERIFICATION_FAILED);
+        }
+
+        // presigned PUT 에는 Cache-Control 을 서명하지 않으므로 검증이 끝난 뒤 붙인다
+        if (!s3UploadService.hasDefaultCacheControl(object)) {
+            s3UploadService.applyCacheControl(key, upload.getContentType());
+        }
+
+        upload.verify();
+
+        if (upload.getContentType().startsWith("image/")) {
+            imageResizeService.pregenerate(fileUrl);
+        }
+        return new FileDto.FileUploadResponse(fileUrl);
+    }
+
+    // 발급 기록이 없는 URL(서버 경유 업로드)은 그대로 허용하고, 확인되지 않은 presigned 업로드만 막는다
+    public void validateVerified(Collection<String> fileUrls) {
+        if (fileUrls.isEmpty()) {
+            return;
+        }
+        List<String> keys = fileUrls.stream()
+                .map(s3UploadService::extractKeyFromUrl)
+                .toList();
+
+        if (mediaUploadRepository.existsByObjectKeyInAndStatus(keys, MediaUploadStatus.PENDING)) {
+            throw new CustomException(ErrorCode.UPLOAD_NOT_VERIFIED);
+        }
+    }
+}
@@ -7,11 +7,13 @@ import com.google.firebase.messaging.Notification;
 import com.google.firebase.messaging.ApnsConfig;
 import com.google.firebase.messaging.Aps;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
+@Timed(value = "loci.service", histogram = true)
 public class NotificationService {
 
     public void sendFriendRequestNotification(String targetFcmToken, String requesterNickname) {
@@ -0,0 +1,145 @@
+package com.teamloci.loci.service;
+
+import com.teamloci.loci.global.event.PostsArchivedEvent;
+import com.teamloci.loci.repository.PostRepository;
+import com.teamloci.loci.repository.projection.ArchiveCandidateView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 만료된 포스트를 키셋 청크 단위로 보관 처리한다.
+ * 청크마다 별도 트랜잭션으로 커밋하고 잠시 쉬어, 긴 락과 복제 지연을 피한다.
+ */
+@Slf4j
+@Service
+public class PostArchiveService {
+
+    // 키셋의 시작점. 이보다 오래된 포스트는 없다
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final long throttleMillis;
+
+    private final Counter archivedCounter;
+    private final Counter chunkCounter;
+    private final Timer chunkTimer;
+
+    public PostArchiveService(
+            PostRepository postRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${post.archive.chunk-size:2000}") int chunkSize,
+            @Value("${post.archive.throttle-millis:200}") long throttleMillis
+    ) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.throttleMillis = throttleMillis;
+
+        this.archivedCounter = meterRegistry.counter("post.archive.archived");
+        this.chunkCounter = meterRegistry.counter("post.archive.chunks");
+        this.chunkTimer = meterRegistry.timer("post.archive.chunk.duration");
+    }
+
+    public int archiveExpired(LocalDateTime expiryDate) {
+        return archiveExpired(expiryDate, 0, 1, () -> true);
+    }
+
+    /**
+     * id % partitions == partition 인 포스트만 처리한다. 여러 인스턴스가 파티션을 나눠 맡을 수 있다.
+     * 청크마다 keepRunning 을 호출하며, false 가 되면(예: 락 리스를 잃음) 즉시 멈춘다.
+     */
+    public int archiveExpired(LocalDateTime expiryDate, int partition, int partitions, BooleanSupplier keepRunning) {
+        LocalDateTime lastCreatedAt = KEYSET_START;
+        long lastId = 0L;
+        int total = 0;
+
+        while (true) {
+            List<ArchiveCandidateView> chunk = postRepository.findArchiveCandidates(
+                    expiryDate, partition, partitions, lastCreatedAt, lastId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<Long> postIds = chunk.stream().map(ArchiveCandidateView::getId).toList();
+            Timer.Sample sample = Timer.start();
+            int count;
+            try {
+                Integer archived = transactionTemplate.execute(status -> archiveChunk(postIds));
+                count = archived == null ? 0 : archived;
+            } catch (RuntimeException e) {
+                // 청크는 롤백되었고 후보는 ACTIVE 로 남으므로 다음 실행에서 다시 처리된다. 나머지 청크는 계속 진행한다
+                log.error("[Archive] 파티션 {}/{} 청크 처리 실패, 건너뜀 (첫 ID {}): {}",
+                        partition, partitions, postIds.get(0), e.getMessage());
+                count = 0;
+            }
+            sample.stop(chunkTimer);
+
+            total += count;
+            archivedCounter.increment(count);
+            chunkCounter.increment();
+
+            ArchiveCandidateView last = chunk.get(chunk.size() - 1);
+            lastCreatedAt = last.getCreatedAt();
+            lastId = last.getId();
+
+            log.info("[Archive] 파티션 {}/{} 청크 처리 완료: {}건 (누적 {}건, 마지막 ID {})",
+                    partition, partitions, count, total, lastId);
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            if (!keepRunning.getAsBoolean()) {
+                log.warn("[Archive] 파티션 {}/{} 작업을 중단합니다.", partition, partitions);
+                break;
+            }
+            if (!throttle()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 후보 중 아직 ACTIVE 인 행만 잠근 뒤 정확히 그 행들만 보관하고, 그 ID 를 이벤트로 알린다.
+     * 후보를 고른 뒤 삭제되거나 다른 경로로 보관된 포스트는 잠금 단계에서 빠진다.
+     * 리스너(버전, 사용자 집계)는 같은 트랜잭션에서 돌므로, 하나라도 실패하면 청크 전체가 롤백된다.
+     */
+    private int archiveChunk(List<Long> candidateIds) {
+        List<Long> lockedIds = postRepository.lockActiveIds(candidateIds);
+        if (lockedIds.isEmpty()) {
+            return 0;
+        }
+        int updated = postRepository.archiveByIds(lockedIds);
+        eventPublisher.publishEvent(new PostsArchivedEvent(lockedIds));
+        return updated;
+    }
+
+    private boolean throttle() {
+        try {
+            Thread.sleep(throttleMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[Archive] 보관 작업이 중단되었습니다.");
+            return false;
+        }
+    }
+}
@@ -9,8 +9,13 @@ import com.teamloci.loci.dto.PostDto;
 import com.teamloci.loci.global.exception.CustomException;
 import com.teamloci.loci.global.exception.code.ErrorCode;
 import com.teamloci.loci.global.util.GeoUtils;
+import com.teamloci.loci.repository.PostMediaRepository;
 import com.teamloci.loci.repository.PostRepository;
 import com.teamloci.loci.repository.UserRepository;
+import com.teamloci.loci.repository.projection.PostCollaboratorView;
+import com.teamloci.loci.repository.projection.PostMediaView;
+import com.teamloci.loci.repository.projection.PostView;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.stream.Collectors;
@@ -26,11 +32,19 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "loci.service", histogram = true)
 public class PostService {
 
     private final PostRepository postRepository;
+    private final PostMediaRepository postMediaRepository;
     private final UserRepository userRepository;
     private final GeoUtils geoUtils;
+    private final ImageResizeService imageResizeService;
+    private final MediaUploadService mediaUploadService;
+    private final S3UploadService s3UploadService;
+    private final ContentVersionService contentVersionService;
+    private final PushService pushService;
+    private final UserStatsService userStatsService;
 
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
@@ -42,6 +56,12 @@ public class PostService {
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
     }
 
+    private void validateMediaUploads(List<PostDto.MediaRequest> mediaList) {
+        mediaUploadService.validateVerified(mediaList.stream()
+                .map(PostDto.MediaRequest::getMediaUrl)
+                .toList());
+    }
+
     @Transactional
     public PostDto.PostDetailResponse createPost(Long authorId, PostDto.PostCreateRequest request) {
         User author = findUserById(authorId);
@@ -58,6 +78,7 @@ public class PostService {
                 .build();
 
         if (request.getMediaList() != null) {
+            validateMediaUploads(request.getMediaList());
             request.getMediaList().forEach(mediaReq -> {
                 post.addMedia(PostMedia.builder()
                         .mediaUrl(mediaReq.getMediaUrl())
@@ -83,6 +104,13 @@ public class PostService {
         }
 
         Post savedPost = postRepository.save(post);
+        contentVersionService.postChanged(authorId, savedPost.getLatitude(), savedPost.getLongitude());
+        pushService.postCreated(authorId, author.getNickname(), savedPost.getId());
+        userStatsService.postCreated(authorId);
+
+        savedPost.getMediaList().stream()
+                .filter(media -> media.getMediaType() == MediaType.IMAGE)
+                .forEach(media -> imageResizeService.pregenerate(media.getMediaUrl()));
 
         return PostDto.PostDetailResponse.from(findPostById(savedPost.getId()));
     }
@@ -93,11 +121,7 @@ public class PostService {
     }
 
     public List<PostDto.PostDetailResponse> getPostsByUser(Long userId) {
-        List<Post> posts = postRepository.findByUserIdWithUser(userId);
-
-        return posts.stream()
-                .map(post -> getPost(post.getId()))
-                .collect(Collectors.toList());
+        return toDetailResponses(postRepository.findViewsByUserId(userId));
     }
 
     @Transactional
@@ -108,7 +132,12 @@ public class PostService {
             throw new CustomException(ErrorCode.NOT_POST_AUTHOR);
         }
 
+        post.getMediaList().forEach(media -> s3UploadService.delete(media.getMediaUrl()));
         postRepository.delete(post);
+        contentVersionService.postChanged(currentUserId, post.getLatitude(), post.getLongitude());
+        if (post.getStatus() == PostStatus.ACTIVE) {
+            userStatsService.postDeleted(currentUserId);
+        }
     }
 
     @Transactional
@@ -121,6 +150,10 @@ public class PostService {
 
         String beaconId = geoUtils.latLngToBeaconId(request.getLatitude(), request.getLongitude());
 
+        contentVersionService.regionChanged(post.getLatitude(), post.getLongitude());
+        contentVersionService.postChanged(currentUserId, request.getLatitude(), request.getLongitude());
+
+        boolean moved = !java.util.Objects.equals(beaconId, post.getBeaconId());
         post.update(
                 request.getLatitude(),
                 request.getLongitude(),
@@ -128,50 +161,81 @@ public class PostService {
                 beaconId,
                 request.getIsAutoArchive()
         );
+        if (moved && post.getStatus() == PostStatus.ACTIVE) {
+            userStatsService.postMoved(currentUserId);
+        }
 
-        post.clearMedia();
-        if (request.getMediaList() != null) {
-            request.getMediaList().forEach(mediaReq -> {
-                post.addMedia(PostMedia.builder()
+        List<PostDto.MediaRequest> mediaRequests = request.getMediaList() == null ? List.of() : request.getMediaList();
+        validateMediaUploads(mediaRequests);
+        syncMedia(post, mediaRequests);
+
+        Set<Long> collaboratorIds = request.getCollaboratorIds() == null ? Set.of() : new HashSet<>(request.getCollaboratorIds());
+        syncCollaborators(post, collaboratorIds);
+
+        return PostDto.PostDetailResponse.from(findPostById(post.getId()));
+    }
+
+    // 바뀐 미디어만 삭제/추가한다. PostMedia 는 불변(READ_ONLY 캐시)이므로 순서나 타입이 바뀌면 새 행으로 교체한다
+    private void syncMedia(Post post, List<PostDto.MediaRequest> mediaRequests) {
+        Set<String> requestedUrls = mediaRequests.stream()
+                .map(PostDto.MediaRequest::getMediaUrl)
+                .collect(Collectors.toSet());
+
+        post.getMediaList().stream()
+                .map(PostMedia::getMediaUrl)
+                .filter(url -> !requestedUrls.contains(url))
+                .forEach(s3UploadService::delete);
+
+        Set<String> unchanged = new HashSet<>();
+        for (PostDto.MediaRequest mediaReq : mediaRequests) {
+            post.getMediaList().stream()
+                    .filter(media -> media.getMediaUrl().equals(mediaReq.getMediaUrl())
+                            && media.getMediaType() == mediaReq.getMediaType()
+                            && media.getSortOrder() == mediaReq.getSortOrder())
+                    .findFirst()
+                    .ifPresent(media -> unchanged.add(media.getMediaUrl()));
+        }
+
+        post.removeMediaIf(media -> !unchanged.contains(media.getMediaUrl()));
+
+        mediaRequests.stream()
+                .filter(mediaReq -> !unchanged.contains(mediaReq.getMediaUrl()))
+                .forEach(mediaReq -> post.addMedia(PostMedia.builder()
                         .mediaUrl(mediaReq.getMediaUrl())
                         .mediaType(mediaReq.getMediaType())
                         .sortOrder(mediaReq.getSortOrder())
-                        .build());
-            });
-        }
-
-        post.clearCollaborators();
+                        .build()));
+    }
 
-        if (request.getCollaboratorIds() != null && !request.getCollaboratorIds().isEmpty()) {
-            Set<Long> collaboratorIds = new HashSet<>(request.getCollaboratorIds());
-            List<User> collaboratorUsers = userRepository.findAllById(collaboratorIds);
+    private void syncCollaborators(Post post, Set<Long> collaboratorIds) {
+        post.removeCollaboratorsIf(collaborator -> !collaboratorIds.contains(collaborator.getUser().getId()));
 
-            if (collaboratorUsers.size() != collaboratorIds.size()) {
-                throw new CustomException(ErrorCode.USER_NOT_FOUND);
-            }
+        Set<Long> newIds = new HashSet<>(collaboratorIds);
+        post.getCollaborators().forEach(collaborator -> newIds.remove(collaborator.getUser().getId()));
+        if (newIds.isEmpty()) {
+            return;
+        }
 
-            collaboratorUsers.forEach(collaboratorUser ->
-                    post.addCollaborator(PostCollaborator.builder()
-                            .user(collaboratorUser)
-                            .build())
-            );
+        List<User> collaboratorUsers = userRepository.findAllById(newIds);
+        if (collaboratorUsers.size() != newIds.size()) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
 
-        return PostDto.PostDetailResponse.from(findPostById(post.getId()));
+        collaboratorUsers.forEach(collaboratorUser ->
+                post.addCollaborator(PostCollaborator.builder()
+                        .user(collaboratorUser)
+                        .build())
+        );
     }
 
     public List<PostDto.PostDetailResponse> getPostsByLocation(Double latitude, Double longitude) {
-        String beaconId = geoUtils.latLngToBeaconId(longitude, latitude);
+        String beaconId = geoUtils.latLngToBeaconId(latitude, longitude);
 
         if (beaconId == null) {
             return List.of();
         }
 
-        List<Post> posts = postRepository.findByBeaconId(beaconId);
-
-        return posts.stream()
-                .map(PostDto.PostDetailResponse::from)
-                .collect(Collectors.toList());
+        return toDetailResponses(postRepository.findViewsByBeaconId(beaconId));
     }
 
     public List<PostDto.MapMarkerResponse> getMapMarkers(Double minLat, Double maxLat, Double minLon, Double maxLon) {
@@ -199,27 +263,29 @@ public class PostService {
                 .collect(Collectors.toList());
     }
 
+    public PostDto.MapMarkerColumnsResponse getMapMarkerColumns(Double minLat, Double maxLat, Double minLon, Double maxLon) {
+        return PostDto.MapMarkerColumnsResponse.from(getMapMarkers(minLat, maxLat, minLon, maxLon));
+    }
+
     public PostDto.FeedResponse getFriendFeed(Long myUserId, LocalDateTime cursor, int size) {
         Pageable pageable = PageRequest.of(0, size + 1);
 
-        List<Post> posts;
+        List<PostView> posts;
         if (cursor == null) {
-            posts = postRepository.findFriendPostsFirstPage(myUserId, pageable);
+            posts = postRepository.findFriendPostViewsFirstPage(myUserId, pageable);
         } else {
-            posts = postRepository.findFriendPosts(myUserId, cursor, pageable);
+            posts = postRepository.findFriendPostViews(myUserId, cursor, pageable);
         }
 
         boolean hasNext = false;
         if (posts.size() > size) {
             hasNext = true;
-            posts.remove(size);
+            posts = posts.subList(0, size);
         }
 
         LocalDateTime nextCursor = posts.isEmpty() ? null : posts.get(posts.size() - 1).getCreatedAt();
 
-        List<PostDto.PostDetailResponse> postDtos = posts.stream()
-                .map(PostDto.PostDetailResponse::from)
-                .collect(Collectors.toList());
+        List<PostDto.PostDetailResponse> postDtos = toDetailResponses(posts);
 
         return PostDto.FeedResponse.builder()
                 .posts(postDtos)
@@ -227,4 +293,26 @@ public class PostService {
                 .nextCursor(nextCursor)
                 .build();
     }
-}
\ No newline at end of file
+
+    // 엔티티 대신 필요한 컬럼만 조회하고, 미디어/공동작업자는 포스트 ID 묶음으로 한 번씩만 가져온다
+    private List<PostDto.PostDetailResponse> toDetailResponses(List<PostView> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = posts.stream().map(PostView::getId).toList();
+
+        Map<Long, List<PostMediaView>> mediaByPost = postMediaRepository.findViewsByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(PostMediaView::getPostId));
+        Map<Long, List<PostCollaboratorView>> collaboratorsByPost = postRepository.findCollaboratorViewsByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(PostCollaboratorView::getPostId));
+
+        return posts.stream()
+                .map(post -> PostDto.PostDetailResponse.from(
+                        post,
+                        mediaByPost.getOrDefault(post.getId(), List.of()),
+                        collaboratorsByPost.getOrDefault(post.getId(), List.of())
+                ))
+                .collect(Collectors.toList());
+    }
+}
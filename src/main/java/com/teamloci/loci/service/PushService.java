@@ -0,0 +1,239 @@
+package com.teamloci.loci.service;
+
+import com.teamloci.loci.domain.FriendshipStatus;
+import com.teamloci.loci.global.event.PushEvent;
+import com.teamloci.loci.global.event.PushEventBus;
+import com.teamloci.loci.global.event.PushEventType;
+import com.teamloci.loci.repository.FriendshipRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 푸시 게이트웨이. 연결마다 크기가 제한된 큐와 가상 스레드 하나를 두고,
+ * 가상 스레드가 큐를 비우며 이벤트와 하트비트를 보낸다.
+ * 느린 클라이언트 때문에 큐가 가득 차면 쌓인 이벤트를 버리고 RESYNC 하나만 보내, 메모리가 무한정 늘지 않게 한다.
+ * 사용자당 연결 수를 제한하며, 넘치면 가장 오래된 연결을 닫는다.
+ */
+@Slf4j
+@Service
+public class PushService {
+
+    private static final String HEARTBEAT = "ping";
+
+    private final PushEventBus pushEventBus;
+    private final FriendshipRepository friendshipRepository;
+    private final int queueCapacity;
+    private final Duration heartbeatInterval;
+    private final Duration connectionTimeout;
+    private final int maxConnectionsPerUser;
+
+    // 사용자별 연결을 연 순서대로 둔다. 덱은 compute 안에서만 바꾼다
+    private final ConcurrentHashMap<Long, Deque<Connection>> userConnections = new ConcurrentHashMap<>();
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    public PushService(
+            PushEventBus pushEventBus,
+            FriendshipRepository friendshipRepository,
+            MeterRegistry meterRegistry,
+            @Value("${push.queue-capacity:256}") int queueCapacity,
+            @Value("${push.heartbeat-seconds:25}") long heartbeatSeconds,
+            @Value("${push.connection-timeout-minutes:30}") long connectionTimeoutMinutes,
+            @Value("${push.max-connections-per-user:3}") int maxConnectionsPerUser
+    ) {
+        this.pushEventBus = pushEventBus;
+        this.friendshipRepository = friendshipRepository;
+        this.queueCapacity = queueCapacity;
+        this.heartbeatInterval = Duration.ofSeconds(heartbeatSeconds);
+        this.connectionTimeout = Duration.ofMinutes(connectionTimeoutMinutes);
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+
+        meterRegistry.gauge("push.connections", connections);
+        FunctionCounter.builder("push.events.dropped", droppedEvents, AtomicLong::get).register(meterRegistry);
+    }
+
+    public SseEmitter connect(Long userId) {
+        SseEmitter emitter = new SseEmitter(connectionTimeout.toMillis());
+        Connection connection = new Connection(userId, emitter, new ArrayBlockingQueue<>(queueCapacity));
+
+        connection.subscription = pushEventBus.subscribe(userId, connection::offer);
+        emitter.onCompletion(connection::close);
+        // 타임아웃을 정상 종료로 처리해야 AsyncRequestTimeoutException 으로 번지지 않는다
+        emitter.onTimeout(() -> {
+            connection.close();
+            emitter.complete();
+        });
+        emitter.onError(e -> connection.close());
+
+        connections.incrementAndGet();
+        register(connection);
+        connection.worker = Thread.ofVirtual()
+                .name("push-" + userId)
+                .start(connection::run);
+        return emitter;
+    }
+
+    private void register(Connection connection) {
+        List<Connection> evicted = new ArrayList<>();
+        userConnections.compute(connection.userId, (userId, deque) -> {
+            Deque<Connection> opened = deque != null ? deque : new ArrayDeque<>();
+            opened.addLast(connection);
+            while (opened.size() > maxConnectionsPerUser) {
+                evicted.add(opened.pollFirst());
+            }
+            return opened;
+        });
+        // 등록 전에 이미 닫혔다면 close 의 해제가 먼저 지나갔으므로 여기서 뺀다
+        if (connection.closed.get()) {
+            unregister(connection);
+        }
+        for (Connection oldest : evicted) {
+            log.debug("[Push] 사용자당 연결 수 초과로 가장 오래된 연결을 닫음 [User: {}]", oldest.userId);
+            oldest.close();
+            oldest.emitter.complete();
+        }
+    }
+
+    private void unregister(Connection connection) {
+        userConnections.computeIfPresent(connection.userId, (userId, deque) -> {
+            deque.remove(connection);
+            return deque.isEmpty() ? null : deque;
+        });
+    }
+
+    public void postCreated(Long authorId, String authorNickname, Long postId) {
+        Set<Long> friendIds = new HashSet<>();
+        friendIds.addAll(friendshipRepository.findReceiverIdsByRequesterIds(Set.of(authorId), FriendshipStatus.FRIENDSHIP));
+        friendIds.addAll(friendshipRepository.findRequesterIdsByReceiverIds(Set.of(authorId), FriendshipStatus.FRIENDSHIP));
+        if (friendIds.isEmpty()) {
+            return;
+        }
+        publishAfterCommit(new PushEvent(PushEventType.FEED_POST, friendIds, Map.of(
+                "postId", postId,
+                "authorId", authorId,
+                "authorNickname", authorNickname
+        )));
+    }
+
+    public void friendAdded(Long targetUserId, Long userId, String nickname, String profileUrl) {
+        publishAfterCommit(new PushEvent(PushEventType.FRIEND_ADDED, Set.of(targetUserId), Map.of(
+                "userId", userId,
+                "nickname", nickname,
+                "profileUrl", profileUrl != null ? profileUrl : ""
+        )));
+    }
+
+    public void chatRoomUpdated(String roomId, Long senderId, Long receiverId, String messageText) {
+        publishAfterCommit(new PushEvent(PushEventType.CHAT_ROOM_UPDATED, Set.of(senderId, receiverId), Map.of(
+                "roomId", roomId,
+                "senderId", senderId,
+                "text", messageText
+        )));
+    }
+
+    // 롤백된 변경이 클라이언트에 보이지 않도록 커밋 뒤에 보낸다
+    private void publishAfterCommit(PushEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pushEventBus.publish(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pushEventBus.publish(event);
+            }
+        });
+    }
+
+    private class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<PushEvent> queue;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicLong sequence = new AtomicLong();
+        private volatile PushEventBus.Subscription subscription;
+        private volatile Thread worker;
+
+        private Connection(Long userId, SseEmitter emitter, BlockingQueue<PushEvent> queue) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        // 구독 스레드 여러 개가 동시에 부를 수 있다. 비우기와 RESYNC 넣기 사이에 다른 이벤트가 끼어들어
+        // RESYNC 가 버려지지 않도록 연결 단위로 직렬화한다. 소비자는 꺼내기만 하므로 비운 뒤의 offer 는 항상 성공한다
+        private synchronized void offer(PushEvent event) {
+            if (queue.offer(event)) {
+                return;
+            }
+            // 백프레셔: 못 따라오는 연결은 밀린 이벤트를 버리고 다시 동기화하게 한다
+            droppedEvents.addAndGet(queue.size() + 1L);
+            queue.clear();
+            queue.offer(new PushEvent(PushEventType.RESYNC, Set.of(userId), Map.of()));
+        }
+
+        private void run() {
+            try {
+                while (!closed.get()) {
+                    PushEvent event = queue.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    if (event == null) {
+                        emitter.send(SseEmitter.event().comment(HEARTBEAT));
+                        continue;
+                    }
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(sequence.incrementAndGet()))
+                            .name(event.getType().name())
+                            .data(event.getPayload(), MediaType.APPLICATION_JSON));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었다
+                log.debug("[Push] 연결 종료 [User: {}]: {}", userId, e.getMessage());
+                emitter.completeWithError(e);
+            } finally {
+                close();
+            }
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            connections.decrementAndGet();
+            unregister(this);
+            if (subscription != null) {
+                subscription.close();
+            }
+            Thread current = worker;
+            if (current != null && current != Thread.currentThread()) {
+                current.interrupt();
+            }
+        }
+    }
+}
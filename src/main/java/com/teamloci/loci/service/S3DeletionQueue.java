@@ -0,0 +1,241 @@
+package com.teamloci.loci.service;
+
+import com.teamloci.loci.domain.S3PendingDeletion;
+import com.teamloci.loci.repository.PostMediaRepository;
+import com.teamloci.loci.repository.S3PendingDeletionRepository;
+import com.teamloci.loci.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * S3 삭제를 요청 스레드에서 떼어내 s3_pending_deletions 에 모아두었다가 DeleteObjects(최대 1,000개)로 한 번에 지운다.
+ * 삭제 요청은 호출한 트랜잭션과 함께 커밋되므로 프로세스가 내려가도 유실되지 않고, 롤백되면 함께 사라진다.
+ * 원본을 지울 때는 resized/{원본 Key}/ 아래의 썸네일 변형도 함께 지우며,
+ * 지우기 직전에 게시글 미디어나 프로필이 같은 URL 을 여전히 참조하면 건너뛴다.
+ */
+@Slf4j
+@Component
+public class S3DeletionQueue {
+
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+    private static final int ROWS_PER_FLUSH = 200;
+    private static final String RESIZED_PREFIX = "resized/";
+    private static final String FLUSH_LOCK = "s3-deletion-flush";
+    private static final Duration FLUSH_LEASE = Duration.ofMinutes(2);
+
+    private final S3Client s3Client;
+    private final S3PendingDeletionRepository pendingDeletionRepository;
+    private final PostMediaRepository postMediaRepository;
+    private final UserRepository userRepository;
+    private final ThumbnailCache thumbnailCache;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate newTransactionTemplate;
+    private final int maxAttempts;
+
+    @Value("${spring.cloud.aws.s3.bucket:loci-assets}")
+    private String bucket;
+
+    public S3DeletionQueue(
+            S3Client s3Client,
+            S3PendingDeletionRepository pendingDeletionRepository,
+            PostMediaRepository postMediaRepository,
+            UserRepository userRepository,
+            ThumbnailCache thumbnailCache,
+            SchedulerLockService schedulerLockService,
+            PlatformTransactionManager transactionManager,
+            @Value("${s3.deletion.max-attempts:5}") int maxAttempts
+    ) {
+        this.s3Client = s3Client;
+        this.pendingDeletionRepository = pendingDeletionRepository;
+        this.postMediaRepository = postMediaRepository;
+        this.userRepository = userRepository;
+        this.thumbnailCache = thumbnailCache;
+        this.schedulerLockService = schedulerLockService;
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = maxAttempts;
+    }
+
+    // 삭제 요청 행이 호출한 트랜잭션과 함께 커밋되므로, 롤백되면 DB가 여전히 참조하는 파일은 지우지 않는다
+    public void deleteAfterCommit(String fileUrl) {
+        delete(fileUrl);
+    }
+
+    // 업로드는 끝났지만 트랜잭션이 롤백되어 아무도 참조하지 않게 된 파일을 지운다
+    public void deleteOnRollback(String fileUrl) {
+        if (fileUrl == null || fileUrl.isBlank() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == TransactionSynchronization.STATUS_ROLLED_BACK) {
+                    // 원래 트랜잭션은 이미 끝났으므로 새 트랜잭션으로 남긴다
+                    newTransactionTemplate.executeWithoutResult(tx -> enqueue(fileUrl));
+                }
+            }
+        });
+    }
+
+    public void delete(String fileUrl) {
+        if (fileUrl == null || fileUrl.isBlank()) {
+            return;
+        }
+        enqueue(fileUrl);
+    }
+
+    private void enqueue(String fileUrl) {
+        String key = extractKey(fileUrl);
+        pendingDeletionRepository.save(new S3PendingDeletion(fileUrl, key));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            thumbnailCache.invalidatePrefix(resizedPrefixOf(key));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                thumbnailCache.invalidatePrefix(resizedPrefixOf(key));
+            }
+        });
+    }
+
+    // 여러 인스턴스가 같은 행을 중복 처리하지 않도록 한 곳에서만 비운다
+    @Scheduled(fixedDelayString = "${s3.deletion.flush-interval-millis:5000}")
+    public void flush() {
+        if (!schedulerLockService.tryAcquire(FLUSH_LOCK, FLUSH_LEASE)) {
+            return;
+        }
+        try {
+            List<S3PendingDeletion> batch = pendingDeletionRepository.findOldest(PageRequest.of(0, ROWS_PER_FLUSH));
+            if (!batch.isEmpty()) {
+                process(batch);
+            }
+        } catch (Exception e) {
+            log.error("S3 삭제 큐 처리 중 오류 발생", e);
+        } finally {
+            schedulerLockService.release(FLUSH_LOCK);
+        }
+    }
+
+    private void process(List<S3PendingDeletion> batch) {
+        Set<String> urls = new HashSet<>();
+        batch.forEach(deletion -> urls.add(deletion.getFileUrl()));
+
+        Set<String> referenced = new HashSet<>(postMediaRepository.findReferencedUrls(urls));
+        referenced.addAll(userRepository.findReferencedProfileUrls(urls));
+
+        Map<String, List<S3PendingDeletion>> ownersByKey = new HashMap<>();
+        Set<S3PendingDeletion> failed = new LinkedHashSet<>();
+
+        for (S3PendingDeletion deletion : batch) {
+            if (referenced.contains(deletion.getFileUrl())) {
+                log.info("다른 게시글/프로필이 참조 중인 파일이라 S3 삭제를 건너뜀 [Key: {}]", deletion.getObjectKey());
+                continue;
+            }
+            ownersByKey.computeIfAbsent(deletion.getObjectKey(), k -> new ArrayList<>()).add(deletion);
+            try {
+                String prefix = resizedPrefixOf(deletion.getObjectKey());
+                for (S3Object object : s3Client.listObjectsV2Paginator(builder -> builder.bucket(bucket).prefix(prefix)).contents()) {
+                    ownersByKey.computeIfAbsent(object.key(), k -> new ArrayList<>()).add(deletion);
+                }
+            } catch (SdkException e) {
+                markFailed(failed, List.of(deletion), e.getMessage());
+            }
+        }
+
+        List<String> keys = new ArrayList<>(ownersByKey.keySet());
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_REQUEST) {
+            deleteBatch(keys.subList(from, Math.min(from + MAX_KEYS_PER_REQUEST, keys.size())), ownersByKey, failed);
+        }
+
+        List<Long> done = new ArrayList<>();
+        List<S3PendingDeletion> retries = new ArrayList<>();
+        for (S3PendingDeletion deletion : batch) {
+            if (!failed.contains(deletion)) {
+                done.add(deletion.getId());
+                continue;
+            }
+            deletion.failed();
+            if (deletion.getAttempts() >= maxAttempts) {
+                log.error("S3 파일 삭제 최종 실패 [Key: {}]", deletion.getObjectKey());
+                done.add(deletion.getId());
+            } else {
+                retries.add(deletion);
+            }
+        }
+
+        pendingDeletionRepository.deleteAllByIdInBatch(done);
+        pendingDeletionRepository.saveAll(retries);
+    }
+
+    private void deleteBatch(List<String> keys, Map<String, List<S3PendingDeletion>> ownersByKey, Set<S3PendingDeletion> failed) {
+        List<ObjectIdentifier> identifiers = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+
+        try {
+            DeleteObjectsResponse response = s3Client.deleteObjects(builder -> builder
+                    .bucket(bucket)
+                    .delete(delete -> delete.objects(identifiers).quiet(true))
+            );
+
+            if (response.hasErrors() && !response.errors().isEmpty()) {
+                for (S3Error error : response.errors()) {
+                    List<S3PendingDeletion> owners = ownersByKey.get(error.key());
+                    if (owners != null) {
+                        markFailed(failed, owners, error.code() + " " + error.message());
+                    }
+                }
+            }
+        } catch (SdkException e) {
+            keys.forEach(key -> markFailed(failed, ownersByKey.get(key), e.getMessage()));
+        }
+    }
+
+    private void markFailed(Set<S3PendingDeletion> failed, List<S3PendingDeletion> deletions, String reason) {
+        for (S3PendingDeletion deletion : deletions) {
+            if (failed.add(deletion)) {
+                log.warn("S3 파일 삭제 실패, 다음 주기에 재시도 [Key: {}, Attempt: {}]: {}",
+                        deletion.getObjectKey(), deletion.getAttempts() + 1, reason);
+            }
+        }
+    }
+
+    private static String resizedPrefixOf(String key) {
+        return RESIZED_PREFIX + key + "/";
+    }
+
+    private String extractKey(String fileUrl) {
+        try {
+            String key = new URL(fileUrl).getPath();
+            return key.startsWith("/") ? key.substring(1) : key;
+        } catch (Exception e) {
+            return fileUrl;
+        }
+    }
+}
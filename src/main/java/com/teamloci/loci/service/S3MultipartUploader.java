@@ -0,0 +1,187 @@
+package com.teamloci.loci.service;
+
+import com.teamloci.loci.global.exception.CustomException;
+import com.teamloci.loci.global.exception.code.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 큰 파일을 S3 멀티파트 업로드로 나누어 병렬 전송한다.
+ * 파트마다 재시도하며, 실패하면 업로드를 abort 하여 미완성 파트가 남지 않도록 한다.
+ * 로컬 S3 호환 서버(MinIO, LocalStack 등)로 테스트할 때는
+ * spring.cloud.aws.s3.endpoint 와 spring.cloud.aws.s3.path-style-access-enabled=true 를 설정하면 된다.
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+
+    private final S3Client s3Client;
+    private final long partSize;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final ExecutorService partExecutor;
+
+    public S3MultipartUploader(
+            S3Client s3Client,
+            @Value("${s3.multipart.part-size-bytes:8388608}") long partSize,
+            @Value("${s3.multipart.concurrency:4}") int concurrency,
+            @Value("${s3.multipart.max-attempts:3}") int maxAttempts,
+            @Value("${s3.multipart.retry-backoff-millis:500}") long retryBackoffMillis,
+            @Value("${s3.multipart.threads:16}") int threads
+    ) {
+        this.s3Client = s3Client;
+        // S3 는 마지막 파트를 제외하고 5MB 미만의 파트를 허용하지 않는다
+        this.partSize = Math.max(partSize, 5L * 1024 * 1024);
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.partExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "s3-part-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partExecutor.shutdown();
+    }
+
+    public void upload(String bucket, String key, String contentType, String cacheControl,
+                       InputStream inputStream, long size, ProgressListener listener) {
+        String uploadId = s3Client.createMultipartUpload(builder -> builder
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .cacheControl(cacheControl)
+        ).uploadId();
+
+        // 동시에 전송 중인 파트 수만큼만 버퍼를 잡아두므로 힙 사용량은 concurrency * partSize 로 제한된다
+        Semaphore permits = new Semaphore(concurrency);
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicLong transferred = new AtomicLong();
+
+        try {
+            long remaining = size;
+            int partNumber = 1;
+            while (remaining > 0 && failure.get() == null) {
+                int length = (int) Math.min(partSize, remaining);
+                permits.acquire();
+
+                byte[] buffer = inputStream.readNBytes(length);
+                if (buffer.length != length) {
+                    permits.release();
+                    throw new IOException("업로드 스트림이 예상보다 일찍 끝났습니다.");
+                }
+
+                int number = partNumber;
+                parts.add(CompletableFuture.supplyAsync(() -> uploadPart(bucket, key, uploadId, number, buffer), partExecutor)
+                        .whenComplete((part, e) -> {
+                            permits.release();
+                            if (e != null) {
+                                failure.compareAndSet(null, e);
+                            } else {
+                                listener.onProgress(key, transferred.addAndGet(buffer.length), size);
+                            }
+                        }));
+
+                remaining -= length;
+                partNumber++;
+            }
+
+            List<CompletedPart> completed = parts.stream().map(CompletableFuture::join).toList();
+
+            s3Client.completeMultipartUpload(builder -> builder
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(completed))
+            );
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            abort(bucket, key, uploadId, parts);
+            log.error("S3 멀티파트 업로드 실패 [Key: {}]: {}", key, e.getMessage());
+            throw new CustomException(ErrorCode.S3_UPLOAD_FAILED, e);
+        }
+    }
+
+    private CompletedPart uploadPart(String bucket, String key, String uploadId, int partNumber, byte[] bytes) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                UploadPartResponse response = s3Client.uploadPart(builder -> builder
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) bytes.length),
+                        RequestBody.fromBytes(bytes));
+
+                return CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build();
+            } catch (SdkException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("S3 파트 업로드 재시도 [Key: {}, Part: {}, Attempt: {}]: {}", key, partNumber, attempt, e.getMessage());
+                sleepBeforeRetry(attempt);
+            }
+        }
+    }
+
+    private void sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMillis * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void abort(String bucket, String key, String uploadId, List<CompletableFuture<CompletedPart>> parts) {
+        // 전송 중인 파트가 끝난 뒤 abort 해야 S3 에 고아 파트가 남지 않는다
+        CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+        try {
+            s3Client.abortMultipartUpload(builder -> builder
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+            );
+        } catch (SdkException e) {
+            log.error("S3 멀티파트 업로드 abort 실패 [Key: {}, UploadId: {}]: {}", key, uploadId, e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(String key, long transferredBytes, long totalBytes);
+    }
+}
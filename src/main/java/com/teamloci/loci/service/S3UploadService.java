@@ -2,39 +2,54 @@ package com.teamloci.loci.service;
 
 import com.teamloci.loci.global.exception.CustomException;
 import com.teamloci.loci.global.exception.code.ErrorCode;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "loci.service", histogram = true)
 public class S3UploadService {
 
     private final S3Client s3Client;
+    private final S3MultipartUploader multipartUploader;
+    private final S3Presigner s3Presigner;
+    private final S3DeletionQueue deletionQueue;
     private static final String CACHE_CONTROL_VALUE = "public, max-age=2592000";
 
     @Value("${spring.cloud.aws.s3.bucket:loci-assets}")
     private String bucket;
 
+    @Value("${s3.multipart.threshold-bytes:16777216}")
+    private long multipartThreshold;
+
     @Transactional
     public String uploadAndReplace(MultipartFile newFile, String oldFileUrl, String dirName) {
         String newFileUrl = null;
 
         if (newFile != null && !newFile.isEmpty()) {
             newFileUrl = this.upload(newFile, dirName);
+            deletionQueue.deleteOnRollback(newFileUrl);
         }
 
         if (oldFileUrl != null && (newFileUrl == null || !oldFileUrl.equals(newFileUrl))) {
@@ -52,16 +67,26 @@ public class S3UploadService {
     }
 
     public String upload(MultipartFile file, String dirName) {
+        return upload(file, dirName, (key, transferred, total) ->
+                log.debug("S3 업로드 진행 [Key: {}]: {}/{} bytes", key, transferred, total));
+    }
+
+    public String upload(MultipartFile file, String dirName, S3MultipartUploader.ProgressListener listener) {
         if (file == null || file.isEmpty()) {
             throw new CustomException(ErrorCode.FILE_IS_EMPTY);
         }
 
-        String original = Optional.ofNullable(file.getOriginalFilename())
-                .filter(name -> !name.isBlank())
-                .orElseThrow(() -> new IllegalArgumentException("파일 이름이 없습니다."));
+        String key = createKey(dirName, file.getOriginalFilename());
 
-        String uniqueName = UUID.randomUUID() + "_" + original.replaceAll("[^a-zA-Z0-9.\\-]", "_");
-        String key = dirName + "/" + uniqueName;
+        if (file.getSize() >= multipartThreshold) {
+            try (InputStream inputStream = file.getInputStream()) {
+                multipartUploader.upload(bucket, key, file.getContentType(), CACHE_CONTROL_VALUE,
+                        inputStream, file.getSize(), listener);
+            } catch (IOException e) {
+                throw new CustomException(ErrorCode.S3_UPLOAD_FAILED);
+            }
+            return getFileUrl(key);
+        }
 
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucket)
@@ -73,36 +98,73 @@ public class S3UploadService {
         try {
             s3Client.putObject(putObjectRequest,
                     RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+            listener.onProgress(key, file.getSize(), file.getSize());
         } catch (SdkException | IOException e) {
             throw new CustomException(ErrorCode.S3_UPLOAD_FAILED);
         }
 
+        return getFileUrl(key);
+    }
+
+    public String createKey(String dirName, String originalFilename) {
+        String original = Optional.ofNullable(originalFilename)
+                .filter(name -> !name.isBlank())
+                .orElseThrow(() -> new IllegalArgumentException("파일 이름이 없습니다."));
+
+        String uniqueName = UUID.randomUUID() + "_" + original.replaceAll("[^a-zA-Z0-9.\\-]", "_");
+        return dirName + "/" + uniqueName;
+    }
+
+    public String getFileUrl(String key) {
         return s3Client.utilities().getUrl(builder -> builder.bucket(bucket).key(key)).toString();
     }
 
-    public void delete(String fileUrl) {
-        if (fileUrl == null || fileUrl.isBlank()) {
-            return;
-        }
+    // Content-Type 과 Content-Length 까지 서명에 포함되므로 클라이언트는 요청한 그대로 PUT 해야 한다.
+    // 클라이언트가 보내지 않는 헤더(Cache-Control 등)를 서명에 넣으면 403 이 나므로, Cache-Control 은 complete 단계에서 서버가 붙인다
+    public String presignPut(String key, String contentType, long size, Duration expiresIn) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(size)
+                .build();
 
-        try {
-            URL url = new URL(fileUrl);
-            String key = url.getPath();
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(expiresIn)
+                .putObjectRequest(putObjectRequest)
+                .build();
 
-            if (key.startsWith("/")) {
-                key = key.substring(1);
-            }
+        return s3Presigner.presignPutObject(presignRequest).url().toString();
+    }
 
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(key)
-                    .build();
+    // 같은 Key 로 메타데이터만 바꿔 복사한다. 데이터는 S3 안에서만 복사되며 5GB 이하 객체에 쓸 수 있다
+    public void applyCacheControl(String key, String contentType) {
+        s3Client.copyObject(builder -> builder
+                .sourceBucket(bucket)
+                .sourceKey(key)
+                .destinationBucket(bucket)
+                .destinationKey(key)
+                .metadataDirective(MetadataDirective.REPLACE)
+                .contentType(contentType)
+                .cacheControl(CACHE_CONTROL_VALUE)
+        );
+    }
 
-            s3Client.deleteObject(deleteObjectRequest);
+    public boolean hasDefaultCacheControl(HeadObjectResponse object) {
+        return CACHE_CONTROL_VALUE.equals(object.cacheControl());
+    }
 
-        } catch (Exception e) {
-            System.err.println("S3 파일 삭제 실패: " + fileUrl + " (" + e.getMessage() + ")");
-        }
+    public HeadObjectResponse headObject(String key) {
+        HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+        return s3Client.headObject(headObjectRequest);
+    }
+
+    // 트랜잭션 커밋 이후 삭제 큐에서 썸네일 변형과 함께 일괄 삭제된다
+    public void delete(String fileUrl) {
+        deletionQueue.deleteAfterCommit(fileUrl);
     }
 
     public boolean doesObjectExist(String key) {
@@ -118,12 +180,18 @@ public class S3UploadService {
         }
     }
 
-    public byte[] downloadFile(String key) {
+    public ResponseInputStream<GetObjectResponse> openStream(String key) {
+        return openStream(key, null, null);
+    }
+
+    public ResponseInputStream<GetObjectResponse> openStream(String key, String range, String ifNoneMatch) {
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(bucket)
                 .key(key)
+                .range(range)
+                .ifNoneMatch(ifNoneMatch)
                 .build();
-        return s3Client.getObject(getObjectRequest, ResponseTransformer.toBytes()).asByteArray();
+        return s3Client.getObject(getObjectRequest);
     }
 
     public void uploadBytes(byte[] bytes, String key, String contentType) {
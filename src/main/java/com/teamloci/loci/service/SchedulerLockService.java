@@ -0,0 +1,70 @@
+package com.teamloci.loci.service;
+
+import com.teamloci.loci.domain.SchedulerLock;
+import com.teamloci.loci.repository.SchedulerLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DB 테이블 기반 리스(lease) 락. 여러 인스턴스 중 한 곳만 같은 작업을 실행하도록 한다.
+ * 락은 만료 시각까지만 유효하므로, 인스턴스가 죽어도 리스가 끝나면 다른 인스턴스가 이어받는다.
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner;
+
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository, PlatformTransactionManager transactionManager) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = hostName() + "-" + UUID.randomUUID();
+    }
+
+    // 같은 owner 가 다시 호출하면 리스를 연장한다
+    public boolean tryAcquire(String name, Duration lease) {
+        ensureExists(name);
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transactionTemplate.execute(status ->
+                schedulerLockRepository.tryAcquire(name, owner, now, now.plus(lease)));
+        return updated != null && updated > 0;
+    }
+
+    public void release(String name) {
+        transactionTemplate.executeWithoutResult(status ->
+                schedulerLockRepository.release(name, owner, LocalDateTime.now()));
+    }
+
+    private void ensureExists(String name) {
+        if (schedulerLockRepository.existsById(name)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLockRepository.saveAndFlush(new SchedulerLock(name, LocalDateTime.now())));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 만들었다
+            log.debug("[SchedulerLock] 락 행이 이미 생성됨: {}", name);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.teamloci.loci.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class ThumbnailCache {
+
+    private static final HexFormat hexFormat = HexFormat.of();
+    private static final String DISK_SUBDIR = "thumbnails";
+
+    private final long memoryMaxBytes;
+    private final int memoryMaxEntryBytes;
+    private final long diskMaxBytes;
+    private final Path diskDir;
+
+    // accessOrder = true 이므로 get 할 때마다 가장 최근으로 이동 (LRU)
+    private final LinkedHashMap<String, Thumbnail> memory = new LinkedHashMap<>(256, 0.75f, true);
+    private final LinkedHashMap<String, Thumbnail> disk = new LinkedHashMap<>(1024, 0.75f, true);
+    private long memoryBytes;
+    private long diskBytes;
+
+    public ThumbnailCache(
+            @Value("${image.cache.memory-max-bytes:67108864}") long memoryMaxBytes,
+            @Value("${image.cache.memory-max-entry-bytes:65536}") int memoryMaxEntryBytes,
+            @Value("${image.cache.disk-max-bytes:1073741824}") long diskMaxBytes,
+            @Value("${image.cache.dir:${java.io.tmpdir}/loci-thumbnails}") String diskDir
+    ) {
+        this.memoryMaxBytes = memoryMaxBytes;
+        this.memoryMaxEntryBytes = memoryMaxEntryBytes;
+        this.diskMaxBytes = diskMaxBytes;
+        // image.cache.dir 가 다른 용도의 디렉토리를 가리켜도 지우지 않도록 전용 하위 디렉토리만 쓴다
+        this.diskDir = Paths.get(diskDir).resolve(DISK_SUBDIR);
+
+        try {
+            // 디스크 인덱스는 메모리에만 있으므로 기동 시 이전 파일은 비운다
+            FileSystemUtils.deleteRecursively(this.diskDir);
+            Files.createDirectories(this.diskDir);
+        } catch (IOException e) {
+            throw new IllegalStateException("썸네일 캐시 디렉토리 생성 실패: " + diskDir, e);
+        }
+    }
+
+    public Thumbnail get(String key) {
+        synchronized (memory) {
+            Thumbnail thumbnail = memory.get(key);
+            if (thumbnail != null) {
+                return thumbnail;
+            }
+        }
+        synchronized (disk) {
+            return disk.get(key);
+        }
+    }
+
+    public Thumbnail put(String key, byte[] bytes, String contentType) {
+        String etag = etagOf(sha256(bytes));
+        Thumbnail inMemory = new Thumbnail(etag, contentType, bytes.length, bytes, null);
+
+        if (bytes.length <= memoryMaxEntryBytes) {
+            putMemory(key, inMemory);
+        }
+
+        try {
+            Path temp = Files.createTempFile(diskDir, "tmp-", null);
+            Files.write(temp, bytes);
+            putDisk(key, temp, etag, contentType, bytes.length);
+        } catch (IOException e) {
+            log.warn("썸네일 디스크 캐시 저장 실패 [Key: {}]: {}", key, e.getMessage());
+        }
+
+        return inMemory;
+    }
+
+    // S3 응답 스트림을 힙에 모으지 않고 디스크로 바로 내려받으면서 ETag를 계산한다
+    public Thumbnail put(String key, InputStream inputStream, String contentType) throws IOException {
+        MessageDigest digest = sha256Digest();
+        Path temp = Files.createTempFile(diskDir, "tmp-", null);
+
+        long length;
+        try (InputStream in = new DigestInputStream(inputStream, digest)) {
+            length = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        String etag = etagOf(digest.digest());
+
+        Thumbnail inMemory = null;
+        if (length <= memoryMaxEntryBytes) {
+            inMemory = new Thumbnail(etag, contentType, length, Files.readAllBytes(temp), null);
+            putMemory(key, inMemory);
+        }
+
+        Thumbnail onDisk = putDisk(key, temp, etag, contentType, length);
+        return inMemory != null ? inMemory : onDisk;
+    }
+
+    private void putMemory(String key, Thumbnail thumbnail) {
+        synchronized (memory) {
+            Thumbnail previous = memory.put(key, thumbnail);
+            if (previous != null) {
+                memoryBytes -= previous.getLength();
+            }
+            memoryBytes += thumbnail.getLength();
+
+            Iterator<Thumbnail> eldest = memory.values().iterator();
+            while (memoryBytes > memoryMaxBytes && eldest.hasNext()) {
+                memoryBytes -= eldest.next().getLength();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * 파일 교체, 인덱스 갱신, 밀려난 파일 삭제를 한 락 안에서 처리해
+     * 인덱스가 이미 지워졌거나 다른 내용으로 바뀐 파일을 가리키는 구간이 없도록 한다.
+     */
+    private Thumbnail putDisk(String key, Path temp, String etag, String contentType, long length) throws IOException {
+        Path file = diskDir.resolve(fileNameOf(key));
+        Thumbnail thumbnail = new Thumbnail(etag, contentType, length, null, file);
+
+        synchronized (disk) {
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+
+            Thumbnail previous = disk.put(key, thumbnail);
+            if (previous != null) {
+                diskBytes -= previous.getLength();
+            }
+            diskBytes += length;
+
+            Iterator<Map.Entry<String, Thumbnail>> eldest = disk.entrySet().iterator();
+            while (diskBytes > diskMaxBytes && eldest.hasNext()) {
+                Map.Entry<String, Thumbnail> victim = eldest.next();
+                if (victim.getKey().equals(key)) {
+                    break;
+                }
+                diskBytes -= victim.getValue().getLength();
+                eldest.remove();
+                deleteQuietly(victim.getValue().getFile());
+            }
+        }
+        return thumbnail;
+    }
+
+    /**
+     * 읽기에 실패한 항목을 두 계층에서 모두 내린다.
+     * 그 사이 같은 키로 새 항목이 들어왔다면 그 항목은 건드리지 않는다.
+     */
+    public void invalidate(String key, Thumbnail stale) {
+        synchronized (memory) {
+            if (memory.get(key) == stale && memory.remove(key) != null) {
+                memoryBytes -= stale.getLength();
+            }
+        }
+        synchronized (disk) {
+            if (disk.get(key) == stale && disk.remove(key) != null) {
+                diskBytes -= stale.getLength();
+                deleteQuietly(stale.getFile());
+            }
+        }
+    }
+
+    // 원본이 삭제되면 resized/{원본 Key}/ 아래의 변형을 이 인스턴스의 캐시에서도 내린다
+    public void invalidatePrefix(String prefix) {
+        synchronized (memory) {
+            Iterator<Map.Entry<String, Thumbnail>> entries = memory.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<String, Thumbnail> entry = entries.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    memoryBytes -= entry.getValue().getLength();
+                    entries.remove();
+                }
+            }
+        }
+        synchronized (disk) {
+            Iterator<Map.Entry<String, Thumbnail>> entries = disk.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<String, Thumbnail> entry = entries.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    diskBytes -= entry.getValue().getLength();
+                    entries.remove();
+                    deleteQuietly(entry.getValue().getFile());
+                }
+            }
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("썸네일 디스크 캐시 삭제 실패 [{}]: {}", file, e.getMessage());
+        }
+    }
+
+    private String etagOf(byte[] digest) {
+        return "\"" + hexFormat.formatHex(digest, 0, 16) + "\"";
+    }
+
+    private String fileNameOf(String key) {
+        return hexFormat.formatHex(sha256(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private byte[] sha256(byte[] input) {
+        return sha256Digest().digest(input);
+    }
+
+    private MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Thumbnail {
+        private final String etag;
+        private final String contentType;
+        private final long length;
+        // 메모리 계층이면 bytes, 디스크 계층이면 file 이 채워진다
+        private final byte[] bytes;
+        private final Path file;
+    }
+}
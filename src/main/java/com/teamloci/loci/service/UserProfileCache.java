@@ -0,0 +1,66 @@
+package com.teamloci.loci.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamloci.loci.domain.User;
+import com.teamloci.loci.domain.UserStatus;
+import com.teamloci.loci.dto.UserDto;
+import com.teamloci.loci.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 유저 카드(UserResponse) 캐시. 목록 화면에서 여러 유저를 한 번에 조회할 때, 없는 것만 한 번의 IN 조회로 채운다.
+ * 인스턴스마다 따로 들고 있으므로, 다른 인스턴스에서 바뀐 프로필은 TTL 이 지나야 반영된다.
+ */
+@Component
+public class UserProfileCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserDto.UserResponse> cache;
+
+    public UserProfileCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.profile-cache.max-size:10000}") long maxSize,
+            @Value("${user.profile-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userProfile");
+    }
+
+    // 존재하지 않거나 탈퇴한(ACTIVE 가 아닌) ID 는 결과에 없다
+    public Map<Long, UserDto.UserResponse> getAll(Collection<Long> userIds) {
+        return cache.getAll(userIds, missing -> userRepository.findAllByIdInAndStatus(List.copyOf(missing), UserStatus.ACTIVE).stream()
+                .collect(Collectors.toMap(User::getId, UserDto.UserResponse::from)));
+    }
+
+    // 커밋 전에 지우면 그 사이 다른 요청이 옛 값을 다시 캐시할 수 있으므로 커밋 후에 지운다
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(userId);
+            }
+        });
+    }
+}
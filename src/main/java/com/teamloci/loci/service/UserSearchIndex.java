@@ -0,0 +1,164 @@
+package com.teamloci.loci.service;
+
+import com.teamloci.loci.global.util.HangulUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 핸들/닉네임 접두사 검색용 메모리 인덱스. 키는 "정규화된 검색어 + \0 + userId" 이고, 접두사 검색은 정렬 맵의 범위 조회다.
+ * 닉네임은 자모 전체, 초성만, 그리고 두 번째 단어부터 시작하는 키로도 넣어 "쿼카", "ㅎㅂ" 로도 찾을 수 있다.
+ * 조회는 락 없이 읽고, 쓰기(프로필 변경, 재구축 교체)만 동기화한다.
+ */
+@Component
+public class UserSearchIndex {
+
+    private static final char SEPARATOR = '\u0000';
+    private static final char RANGE_END = '\uffff';
+    private static final int MAX_WORD_KEYS = 5;
+
+    private volatile Snapshot current = new Snapshot();
+    private Snapshot rebuilding;
+    // 재구축 중 실시간으로 바뀐 유저. load 는 그보다 먼저 읽은 DB 행이므로 이 유저들은 덮어쓰지 않는다
+    private final Set<Long> touchedDuringRebuild = new HashSet<>();
+
+    public synchronized void put(Long userId, String handle, String nickname) {
+        current.put(userId, handle, nickname);
+        if (rebuilding != null) {
+            rebuilding.put(userId, handle, nickname);
+            touchedDuringRebuild.add(userId);
+        }
+    }
+
+    public synchronized void remove(Long userId) {
+        current.remove(userId);
+        if (rebuilding != null) {
+            rebuilding.remove(userId);
+            touchedDuringRebuild.add(userId);
+        }
+    }
+
+    // 재구축 중에도 기존 인덱스로 검색하고, 그 사이 들어온 변경은 양쪽에 반영한다
+    public synchronized void beginRebuild() {
+        rebuilding = new Snapshot();
+        touchedDuringRebuild.clear();
+    }
+
+    public synchronized void load(Long userId, String handle, String nickname) {
+        if (rebuilding != null && !touchedDuringRebuild.contains(userId)) {
+            rebuilding.put(userId, handle, nickname);
+        }
+    }
+
+    public synchronized void finishRebuild() {
+        if (rebuilding != null) {
+            current = rebuilding;
+            rebuilding = null;
+        }
+        touchedDuringRebuild.clear();
+    }
+
+    public synchronized void abortRebuild() {
+        rebuilding = null;
+        touchedDuringRebuild.clear();
+    }
+
+    public int size() {
+        return current.keysByUser.size();
+    }
+
+    /**
+     * 핸들 일치를 먼저, 닉네임 일치를 그 다음에 두고 각각 검색어 순으로 정렬한다.
+     * offset 부터 limit 개를 돌려주며, 한 개를 더 찾아 다음 페이지 여부를 알린다.
+     */
+    public Page search(String query, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset 은 0 이상이어야 합니다: " + offset);
+        }
+        String prefix = HangulUtils.toJamo(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return new Page(List.of(), false);
+        }
+
+        Snapshot snapshot = current;
+        int end = (int) Math.min((long) offset + limit, Integer.MAX_VALUE - 1);
+        int wanted = end + 1;
+        Set<Long> matched = new LinkedHashSet<>();
+        collect(snapshot.handles, prefix, matched, wanted);
+        collect(snapshot.names, prefix, matched, wanted);
+
+        List<Long> ids = new ArrayList<>(matched);
+        if (ids.size() <= offset) {
+            return new Page(List.of(), false);
+        }
+        boolean hasNext = ids.size() > end;
+        return new Page(ids.subList(offset, Math.min(end, ids.size())), hasNext);
+    }
+
+    private void collect(NavigableMap<String, Long> keys, String prefix, Set<Long> matched, int wanted) {
+        for (Long userId : keys.subMap(prefix, true, prefix + RANGE_END, false).values()) {
+            if (matched.size() >= wanted) {
+                return;
+            }
+            matched.add(userId);
+        }
+    }
+
+    public record Page(List<Long> userIds, boolean hasNext) {
+    }
+
+    private static class Snapshot {
+        private final ConcurrentSkipListMap<String, Long> handles = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<String, Long> names = new ConcurrentSkipListMap<>();
+        private final Map<Long, Keys> keysByUser = new ConcurrentHashMap<>();
+
+        void put(Long userId, String handle, String nickname) {
+            remove(userId);
+
+            List<String> handleKeys = new ArrayList<>();
+            String handleKey = HangulUtils.toJamo(handle);
+            if (!handleKey.isEmpty()) {
+                handleKeys.add(handleKey + SEPARATOR + userId);
+            }
+
+            Set<String> nameKeys = new LinkedHashSet<>();
+            if (nickname != null) {
+                String[] words = nickname.trim().split("\\s+");
+                for (int i = 0; i < Math.min(words.length, MAX_WORD_KEYS); i++) {
+                    String fromWord = String.join(" ", List.of(words).subList(i, words.length));
+                    addKey(nameKeys, HangulUtils.toJamo(fromWord), userId);
+                    addKey(nameKeys, HangulUtils.toChoseong(fromWord), userId);
+                }
+            }
+
+            handleKeys.forEach(key -> handles.put(key, userId));
+            nameKeys.forEach(key -> names.put(key, userId));
+            keysByUser.put(userId, new Keys(handleKeys, List.copyOf(nameKeys)));
+        }
+
+        void remove(Long userId) {
+            Keys keys = keysByUser.remove(userId);
+            if (keys != null) {
+                keys.handleKeys().forEach(handles::remove);
+                keys.nameKeys().forEach(names::remove);
+            }
+        }
+
+        private void addKey(Set<String> keys, String term, Long userId) {
+            if (!term.isEmpty()) {
+                keys.add(term + SEPARATOR + userId);
+            }
+        }
+    }
+
+    private record Keys(List<String> handleKeys, List<String> nameKeys) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.teamloci.loci.service;
+
+import com.teamloci.loci.dto.UserDto;
+import com.teamloci.loci.global.exception.CustomException;
+import com.teamloci.loci.global.exception.code.ErrorCode;
+import com.teamloci.loci.repository.UserRepository;
+import com.teamloci.loci.repository.projection.UserSearchView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 유저 검색. 검색은 메모리 인덱스(UserSearchIndex)와 유저 카드 캐시만 사용하므로 users 테이블을 스캔하지 않는다.
+ * 가입/프로필 변경/탈퇴는 커밋 후 인덱스에 바로 반영하고, 다른 인스턴스의 변경은 주기적인 재구축으로 따라잡는다.
+ */
+@Slf4j
+@Service
+public class UserSearchService {
+
+    private final UserSearchIndex userSearchIndex;
+    private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final int chunkSize;
+
+    public UserSearchService(
+            UserSearchIndex userSearchIndex,
+            UserRepository userRepository,
+            UserProfileCache userProfileCache,
+            @Value("${user.search.rebuild-chunk-size:1000}") int chunkSize
+    ) {
+        this.userSearchIndex = userSearchIndex;
+        this.userRepository = userRepository;
+        this.userProfileCache = userProfileCache;
+        this.chunkSize = chunkSize;
+    }
+
+    @Transactional(readOnly = true)
+    public UserDto.UserSearchResponse search(String query, int page, int size) {
+        int offset;
+        try {
+            offset = Math.multiplyExact(page, size);
+        } catch (ArithmeticException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        UserSearchIndex.Page result = userSearchIndex.search(query, offset, size);
+        if (result.userIds().isEmpty()) {
+            return new UserDto.UserSearchResponse(List.of(), false);
+        }
+
+        Map<Long, UserDto.UserResponse> users = userProfileCache.getAll(result.userIds());
+        List<UserDto.UserResponse> ordered = result.userIds().stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new UserDto.UserSearchResponse(ordered, result.hasNext());
+    }
+
+    public void indexAfterCommit(Long userId, String handle, String nickname) {
+        afterCommit(() -> userSearchIndex.put(userId, handle, nickname));
+    }
+
+    public void removeAfterCommit(Long userId) {
+        afterCommit(() -> userSearchIndex.remove(userId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // 활성 유저를 ID 키셋 청크로 읽어 새 인덱스를 만든 뒤 한 번에 교체한다
+    @Scheduled(fixedDelayString = "${user.search.rebuild-interval-millis:3600000}",
+            initialDelayString = "${user.search.rebuild-interval-millis:3600000}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        userSearchIndex.beginRebuild();
+        try {
+            long lastId = 0L;
+            while (true) {
+                List<UserSearchView> users = userRepository.findActiveSearchViewsAfter(lastId, PageRequest.of(0, chunkSize));
+                users.forEach(user -> userSearchIndex.load(user.getId(), user.getHandle(), user.getNickname()));
+                if (users.size() < chunkSize) {
+                    break;
+                }
+                lastId = users.get(users.size() - 1).getId();
+            }
+            userSearchIndex.finishRebuild();
+            log.info("[UserSearch] 검색 인덱스 재구축 완료: {}명 ({}ms)",
+                    userSearchIndex.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            userSearchIndex.abortRebuild();
+            log.error("[UserSearch] 검색 인덱스 재구축 실패, 기존 인덱스를 유지합니다: {}", e.getMessage());
+        }
+    }
+
+    // 롤백된 변경이 검색에 보이지 않도록 커밋된 경우에만 반영한다
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
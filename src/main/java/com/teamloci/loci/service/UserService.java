@@ -11,6 +11,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.security.SecureRandom;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @Transactional(readOnly = true)
@@ -19,6 +22,11 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final S3UploadService s3UploadService;
+    private final ImageResizeService imageResizeService;
+    private final MediaUploadService mediaUploadService;
+    private final ContentVersionService contentVersionService;
+    private final UserProfileCache userProfileCache;
+    private final UserSearchService userSearchService;
     private static final SecureRandom random = new SecureRandom();
 
     private User findUserById(Long userId) {
@@ -31,8 +39,25 @@ public class UserService {
     }
 
     public UserDto.UserResponse getMyInfo(Long userId) {
-        User user = findUserById(userId);
-        return UserDto.UserResponse.from(user);
+        return userRepository.findProfileViewById(userId)
+                .map(UserDto.UserResponse::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    // 요청 순서대로, 중복은 한 번만 담는다. 존재하지 않는 ID 는 건너뛴다
+    public List<UserDto.UserResponse> getUsers(List<Long> userIds) {
+        List<Long> distinctIds = userIds.stream().distinct().toList();
+        Map<Long, UserDto.UserResponse> users = userProfileCache.getAll(distinctIds);
+        return distinctIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public UserDto.ProfileSummaryResponse getProfileSummary(Long userId) {
+        return userRepository.findSummaryViewById(userId)
+                .map(UserDto.ProfileSummaryResponse::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 
     @Transactional
@@ -55,6 +80,9 @@ public class UserService {
         }
 
         user.updateProfile(newHandle, newNickname);
+        contentVersionService.profileChanged(userId);
+        userSearchService.indexAfterCommit(userId, newHandle, newNickname);
+        userProfileCache.evictAfterCommit(userId);
 
         return UserDto.UserResponse.from(user);
     }
@@ -70,6 +98,9 @@ public class UserService {
         );
 
         user.updateProfileUrl(newFileUrl);
+        imageResizeService.pregenerate(newFileUrl);
+        contentVersionService.profileChanged(userId);
+        userProfileCache.evictAfterCommit(userId);
         return UserDto.UserResponse.from(user);
     }
 
@@ -79,9 +110,16 @@ public class UserService {
         String oldFileUrl = user.getProfileUrl();
         String newFileUrl = request.getProfileUrl();
 
+        if (newFileUrl != null) {
+            mediaUploadService.validateVerified(List.of(newFileUrl));
+        }
+
         s3UploadService.replaceUrl(newFileUrl, oldFileUrl);
 
         user.updateProfileUrl(newFileUrl);
+        imageResizeService.pregenerate(newFileUrl);
+        contentVersionService.profileChanged(userId);
+        userProfileCache.evictAfterCommit(userId);
         return UserDto.UserResponse.from(user);
     }
 
@@ -89,6 +127,9 @@ public class UserService {
     public void withdrawUser(Long userId) {
         User user = findUserById(userId);
         user.withdraw();
+        contentVersionService.profileChanged(userId);
+        userSearchService.removeAfterCommit(userId);
+        userProfileCache.evictAfterCommit(userId);
     }
 
     @Transactional
@@ -0,0 +1,222 @@
+package com.teamloci.loci.service;
+
+import com.teamloci.loci.domain.FriendshipStatus;
+import com.teamloci.loci.domain.UserStats;
+import com.teamloci.loci.global.event.PostsArchivedEvent;
+import com.teamloci.loci.repository.FriendshipRepository;
+import com.teamloci.loci.repository.PostRepository;
+import com.teamloci.loci.repository.UserRepository;
+import com.teamloci.loci.repository.UserStatsRepository;
+import com.teamloci.loci.repository.projection.PostLocationView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 친구/포스트/비콘 수(user_stats)를 관리한다.
+ * 쓰기 경로는 호출한 트랜잭션 안에서 원자적으로 증감하므로 원본과 함께 커밋/롤백된다.
+ * 증감이 어긋나는 경우(동시 삭제, 수동 데이터 수정 등)는 reconcile 이 주기적으로 바로잡는다.
+ */
+@Slf4j
+@Service
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final Counter correctedCounter;
+
+    public UserStatsService(
+            UserStatsRepository userStatsRepository,
+            UserRepository userRepository,
+            PostRepository postRepository,
+            FriendshipRepository friendshipRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${user-stats.reconcile.chunk-size:500}") int chunkSize
+    ) {
+        this.userStatsRepository = userStatsRepository;
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.friendshipRepository = friendshipRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+
+        this.correctedCounter = meterRegistry.counter("user.stats.reconcile.corrected");
+    }
+
+    public void postCreated(Long authorId) {
+        addPostCount(List.of(authorId), 1);
+        refreshBeaconCount(authorId);
+    }
+
+    // 이미 보관된 포스트는 집계에 들어 있지 않으므로 ACTIVE 였을 때만 호출한다
+    public void postDeleted(Long authorId) {
+        addPostCount(List.of(authorId), -1);
+        refreshBeaconCount(authorId);
+    }
+
+    // 위치가 바뀌면 비콘 수만 달라질 수 있다
+    public void postMoved(Long authorId) {
+        addPostCount(List.of(authorId), 0);
+        refreshBeaconCount(authorId);
+    }
+
+    public void friendshipAdded(Long userId, Long otherUserId) {
+        addFriendCount(List.of(userId, otherUserId), 1);
+    }
+
+    public void friendshipRemoved(Long userId, Long otherUserId) {
+        addFriendCount(List.of(userId, otherUserId), -1);
+    }
+
+    /**
+     * 보관 청크 트랜잭션 안에서 호출되며, 이벤트에는 이번에 실제로 보관된 포스트만 담긴다.
+     * 작성자별 보관 건수만큼 빼고 비콘 수를 다시 센다. 실패하면 청크의 보관도 함께 롤백된다.
+     */
+    @EventListener
+    public void onPostsArchived(PostsArchivedEvent event) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<PostLocationView> locations = postRepository.findLocationViewsByIds(event.getPostIds());
+            Map<Long, Long> archivedByAuthor = locations.stream()
+                    .collect(Collectors.groupingBy(PostLocationView::getUserId, Collectors.counting()));
+            if (archivedByAuthor.isEmpty()) {
+                return;
+            }
+
+            // 대부분 작성자당 1건이므로 같은 건수끼리 묶어 UPDATE 수를 줄인다
+            archivedByAuthor.entrySet().stream()
+                    .collect(Collectors.groupingBy(Map.Entry::getValue,
+                            Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                    .forEach((count, userIds) -> addPostCount(userIds, -count));
+
+            refreshBeaconCounts(archivedByAuthor.keySet());
+        });
+    }
+
+    /**
+     * 모든 사용자의 집계를 원본 테이블에서 다시 계산해 덮어쓴다. 사용자 ID 키셋 청크마다 별도 트랜잭션으로 커밋한다.
+     * 청크를 계산하는 짧은 사이에 들어온 증감은 덮어써질 수 있지만, 다음 실행에서 다시 맞춰진다.
+     */
+    public int reconcile(BooleanSupplier keepRunning) {
+        long lastId = 0L;
+        int corrected = 0;
+
+        while (true) {
+            List<Long> userIds = userRepository.findIdsAfter(lastId, PageRequest.of(0, chunkSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            Integer changed = transactionTemplate.execute(status -> reconcileChunk(userIds));
+            corrected += changed == null ? 0 : changed;
+            lastId = userIds.get(userIds.size() - 1);
+
+            if (userIds.size() < chunkSize || !keepRunning.getAsBoolean()) {
+                break;
+            }
+        }
+
+        correctedCounter.increment(corrected);
+        return corrected;
+    }
+
+    private int reconcileChunk(List<Long> userIds) {
+        Map<Long, long[]> counts = countFromSource(userIds);
+        Map<Long, UserStats> existing = userStatsRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(UserStats::getUserId, Function.identity()));
+
+        int changed = 0;
+        for (Long userId : userIds) {
+            long[] count = counts.get(userId);
+            UserStats stats = existing.get(userId);
+            if (stats == null) {
+                stats = new UserStats(userId);
+                stats.reconcile(count[0], count[1], count[2]);
+                userStatsRepository.save(stats);
+            } else if (stats.reconcile(count[0], count[1], count[2])) {
+                changed++;
+                log.info("[UserStats] 집계 보정: userId={}, friend={}, post={}, beacon={}",
+                        userId, count[0], count[1], count[2]);
+            }
+        }
+        return changed;
+    }
+
+    // 사용자별 [친구 수, ACTIVE 포스트 수, 비콘 수]
+    private Map<Long, long[]> countFromSource(Collection<Long> userIds) {
+        Map<Long, long[]> counts = new HashMap<>();
+        userIds.forEach(userId -> counts.put(userId, new long[3]));
+
+        friendshipRepository.countByRequesterIds(userIds, FriendshipStatus.FRIENDSHIP)
+                .forEach(row -> counts.get((Long) row[0])[0] += (Long) row[1]);
+        friendshipRepository.countByReceiverIds(userIds, FriendshipStatus.FRIENDSHIP)
+                .forEach(row -> counts.get((Long) row[0])[0] += (Long) row[1]);
+        postRepository.countActiveStatsByUserIds(userIds).forEach(row -> {
+            long[] count = counts.get((Long) row[0]);
+            count[1] = (Long) row[1];
+            count[2] = (Long) row[2];
+        });
+        return counts;
+    }
+
+    // 작성자의 ACTIVE 포스트가 놓인 서로 다른 비콘 수. 인덱스를 타는 COUNT(DISTINCT) 한 번이라 쓰기마다 다시 센다
+    private void refreshBeaconCount(Long userId) {
+        userStatsRepository.updateBeaconCount(userId, postRepository.countActiveBeaconsByUserId(userId));
+    }
+
+    private void refreshBeaconCounts(Collection<Long> userIds) {
+        Map<Long, Long> beaconCounts = new HashMap<>();
+        postRepository.countActiveStatsByUserIds(userIds)
+                .forEach(row -> beaconCounts.put((Long) row[0], (Long) row[2]));
+        userIds.forEach(userId -> userStatsRepository.updateBeaconCount(userId, beaconCounts.getOrDefault(userId, 0L)));
+    }
+
+    /**
+     * 이미 있는 행은 한 번의 UPDATE 로 증감하고, 처음 쓰이는 사용자만 원본으로 초기화하는 upsert 를 쓴다.
+     * 모두 호출한 트랜잭션 안에서 실행되므로 원본과 함께 커밋/롤백된다.
+     */
+    private void addPostCount(Collection<Long> userIds, long delta) {
+        Set<Long> missing = missingIds(userIds);
+        List<Long> existing = userIds.stream().filter(userId -> !missing.contains(userId)).toList();
+        if (!existing.isEmpty() && delta != 0) {
+            userStatsRepository.addPostCount(existing, delta);
+        }
+        missing.forEach(userId -> userStatsRepository.upsertPostCount(userId, delta));
+    }
+
+    private void addFriendCount(Collection<Long> userIds, long delta) {
+        Set<Long> missing = missingIds(userIds);
+        List<Long> existing = userIds.stream().filter(userId -> !missing.contains(userId)).toList();
+        if (!existing.isEmpty()) {
+            userStatsRepository.addFriendCount(existing, delta);
+        }
+        missing.forEach(userId -> userStatsRepository.upsertFriendCount(userId, delta));
+    }
+
+    private Set<Long> missingIds(Collection<Long> userIds) {
+        Set<Long> missing = new TreeSet<>(userIds);
+        missing.removeAll(userStatsRepository.findExistingIds(userIds));
+        return missing;
+    }
+}
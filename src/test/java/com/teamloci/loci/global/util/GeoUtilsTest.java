@@ -0,0 +1,28 @@
+package com.teamloci.loci.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class GeoUtilsTest {
+
+    private final GeoUtils geoUtils = new GeoUtils();
+
+    @Test
+    @DisplayName("1. 좁은 지도 범위: 범위와 겹치는 지역 셀을 반환한다")
+    void regionIdsInBox_SmallBox() {
+        assertThat(geoUtils.regionIdsInBox(37.55, 37.58, 126.96, 126.99, 256))
+                .isNotNull()
+                .contains(geoUtils.latLngToRegionId(37.5665, 126.9780));
+    }
+
+    @Test
+    @DisplayName("2. 넓은 지도 범위: 셀을 나열하지 않고 면적 추정만으로 바로 null 을 반환한다")
+    void regionIdsInBox_WorldBox() {
+        assertTimeoutPreemptively(java.time.Duration.ofMillis(200), () ->
+                assertThat(geoUtils.regionIdsInBox(-85, 85, -180, 180, 256)).isNull());
+        assertThat(geoUtils.regionIdsInBox(33, 39, 124, 132, 256)).isNull();
+    }
+}
@@ -174,4 +174,15 @@ class FriendServiceIntegrationTest {
         assertThat(friends).hasSize(1);
         assertThat(friends.get(0).getNickname()).isEqualTo("UserB");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("6. 친구 추가: 양쪽 프로필 요약의 친구 수가 1씩 늘어난다")
+    void addFriend_UpdatesUserStats() {
+        friendService.addFriend(userA.getId(), userB.getId());
+
+        assertThat(userRepository.findSummaryViewById(userA.getId()))
+                .hasValueSatisfying(summary -> assertThat(summary.getFriendCount()).isEqualTo(1L));
+        assertThat(userRepository.findSummaryViewById(userB.getId()))
+                .hasValueSatisfying(summary -> assertThat(summary.getFriendCount()).isEqualTo(1L));
+    }
+}
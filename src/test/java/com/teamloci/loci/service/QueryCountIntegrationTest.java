@@ -0,0 +1,216 @@
+package com.teamloci.loci.service;
+
+import com.google.cloud.firestore.Firestore;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.teamloci.loci.domain.Friendship;
+import com.teamloci.loci.domain.FriendshipStatus;
+import com.teamloci.loci.domain.MediaType;
+import com.teamloci.loci.domain.Post;
+import com.teamloci.loci.domain.PostCollaborator;
+import com.teamloci.loci.domain.PostMedia;
+import com.teamloci.loci.domain.User;
+import com.teamloci.loci.dto.PostDto;
+import com.teamloci.loci.dto.UserDto;
+import com.teamloci.loci.global.metrics.QueryCountInspector;
+import com.teamloci.loci.global.util.GeoUtils;
+import com.teamloci.loci.repository.FriendshipRepository;
+import com.teamloci.loci.repository.PostRepository;
+import com.teamloci.loci.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Transactional;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 조회 API 가 데이터 양과 무관하게 고정된 수의 SQL 만 실행하는지 검사한다.
+ * 상한을 넘으면 N+1 회귀이므로 빌드가 깨진다.
+ */
+@SpringBootTest
+@Transactional
+class QueryCountIntegrationTest {
+
+    private static final int FRIEND_COUNT = 20;
+    private static final int POSTS_PER_FRIEND = 5;
+    private static final int MEDIA_PER_POST = 3;
+    private static final int COLLABORATORS_PER_POST = 2;
+
+    private static final double LATITUDE = 37.5665;
+    private static final double LONGITUDE = 126.9780;
+
+    @Autowired private PostService postService;
+    @Autowired private FriendService friendService;
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private FriendshipRepository friendshipRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private GeoUtils geoUtils;
+    @Autowired private QueryCountInspector queryCountInspector;
+    @Autowired private EntityManager entityManager;
+
+    @MockBean private Firestore firestore;
+    @MockBean private FirebaseAuth firebaseAuth;
+    @MockBean private FirebaseMessaging firebaseMessaging;
+    @MockBean private NotificationService notificationService;
+    @MockBean private S3Client s3Client;
+
+    private User me;
+    private List<User> friends;
+
+    @BeforeEach
+    void setUp() {
+        me = userRepository.save(user(0));
+
+        friends = new ArrayList<>();
+        for (int i = 1; i <= FRIEND_COUNT; i++) {
+            friends.add(user(i));
+        }
+        userRepository.saveAll(friends);
+
+        friends.forEach(friend -> friendshipRepository.save(Friendship.builder()
+                .requester(me)
+                .receiver(friend)
+                .status(FriendshipStatus.FRIENDSHIP)
+                .build()));
+
+        String beaconId = geoUtils.latLngToBeaconId(LATITUDE, LONGITUDE);
+        for (int i = 0; i < friends.size(); i++) {
+            for (int p = 0; p < POSTS_PER_FRIEND; p++) {
+                Post post = Post.builder()
+                        .user(friends.get(i))
+                        .latitude(LATITUDE)
+                        .longitude(LONGITUDE)
+                        .locationName("서울시청")
+                        .beaconId(beaconId)
+                        .isAutoArchive(true)
+                        .build();
+                for (int m = 0; m < MEDIA_PER_POST; m++) {
+                    post.addMedia(PostMedia.builder()
+                            .mediaUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/posts/" + i + "_" + p + "_" + m + ".jpg")
+                            .mediaType(MediaType.IMAGE)
+                            .sortOrder(m)
+                            .build());
+                }
+                for (int c = 1; c <= COLLABORATORS_PER_POST; c++) {
+                    post.addCollaborator(PostCollaborator.builder()
+                            .user(friends.get((i + c) % friends.size()))
+                            .build());
+                }
+                postRepository.save(post);
+            }
+        }
+
+        // 영속성 컨텍스트에 남은 엔티티가 조회를 가리지 않도록 DB 에서 다시 읽게 한다
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private User user(int index) {
+        return User.builder()
+                .handle("query_user_" + index)
+                .nickname("QueryUser" + index)
+                .phoneSearchHash("query-hash-" + index)
+                .countryCode("KR")
+                .build();
+    }
+
+    private <T> T countQueries(Supplier<T> call, long[] counted) {
+        queryCountInspector.start();
+        try {
+            return call.get();
+        } finally {
+            counted[0] = queryCountInspector.count();
+            queryCountInspector.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("1. 친구 피드: 포스트/미디어/공동작업자 각 1회씩, 최대 3개의 쿼리")
+    void getFriendFeed_QueryCount() {
+        long[] counted = new long[1];
+
+        PostDto.FeedResponse feed = countQueries(() -> postService.getFriendFeed(me.getId(), null, 30), counted);
+
+        assertThat(feed.getPosts()).hasSize(30);
+        assertThat(feed.getPosts()).allSatisfy(post -> {
+            assertThat(post.getMediaList()).hasSize(MEDIA_PER_POST);
+            assertThat(post.getCollaborators()).hasSize(COLLABORATORS_PER_POST);
+        });
+        assertThat(counted[0]).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("2. 유저별 포스트 목록: 최대 3개의 쿼리")
+    void getPostsByUser_QueryCount() {
+        long[] counted = new long[1];
+
+        List<PostDto.PostDetailResponse> posts = countQueries(() -> postService.getPostsByUser(friends.get(0).getId()), counted);
+
+        assertThat(posts).hasSize(POSTS_PER_FRIEND);
+        assertThat(counted[0]).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("3. 위치 기반 타임라인: 비콘 내 포스트 수와 무관하게 최대 3개의 쿼리")
+    void getPostsByLocation_QueryCount() {
+        long[] counted = new long[1];
+
+        List<PostDto.PostDetailResponse> posts = countQueries(() -> postService.getPostsByLocation(LATITUDE, LONGITUDE), counted);
+
+        assertThat(posts).hasSize(FRIEND_COUNT * POSTS_PER_FRIEND);
+        assertThat(counted[0]).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("4. 친구 목록: 친구 수와 무관하게 1개의 쿼리")
+    void getMyFriends_QueryCount() {
+        long[] counted = new long[1];
+
+        List<UserDto.UserResponse> result = countQueries(() -> friendService.getMyFriends(me.getId()), counted);
+
+        assertThat(result).hasSize(FRIEND_COUNT);
+        assertThat(counted[0]).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("5. 유저 일괄 조회: 요청 순서대로 반환하고, 캐시에 없는 유저만 1개의 쿼리로 채운다")
+    void getUsers_QueryCount() {
+        long[] counted = new long[1];
+        List<Long> userIds = new ArrayList<>();
+        for (int i = friends.size() - 1; i >= 0; i--) {
+            userIds.add(friends.get(i).getId());
+        }
+        userIds.add(me.getId());
+
+        List<UserDto.UserResponse> result = countQueries(() -> userService.getUsers(userIds), counted);
+
+        assertThat(result).extracting(UserDto.UserResponse::getId).containsExactlyElementsOf(userIds);
+        assertThat(counted[0]).isLessThanOrEqualTo(1);
+
+        countQueries(() -> userService.getUsers(userIds), counted);
+        assertThat(counted[0]).isZero();
+    }
+
+    @Test
+    @DisplayName("6. 유저 일괄 조회: 탈퇴한 유저는 카드로 내보내지 않는다")
+    void getUsers_ExcludesWithdrawnUsers() {
+        User withdrawn = friends.get(0);
+        withdrawn.withdraw();
+        entityManager.flush();
+
+        List<UserDto.UserResponse> result = userService.getUsers(List.of(withdrawn.getId(), me.getId()));
+
+        assertThat(result).extracting(UserDto.UserResponse::getId).containsExactly(me.getId());
+    }
+}
@@ -0,0 +1,111 @@
+package com.teamloci.loci.service;
+
+import com.teamloci.loci.global.exception.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class S3MultipartUploaderTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+    // 5MB + 5MB + 1MB 로 세 파트가 된다
+    private static final int FILE_SIZE = PART_SIZE * 2 + 1024 * 1024;
+    private static final String UPLOAD_ID = "upload-1";
+
+    private S3Client s3Client;
+    private S3MultipartUploader uploader;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        uploader = new S3MultipartUploader(s3Client, PART_SIZE, 2, 2, 0, 4);
+
+        when(s3Client.createMultipartUpload(any(Consumer.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+        when(s3Client.completeMultipartUpload(any(Consumer.class)))
+                .thenReturn(CompleteMultipartUploadResponse.builder().build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("1. 성공: 파트 순서대로 각 파트의 ETag 를 모아 completeMultipartUpload 를 호출한다")
+    @SuppressWarnings("unchecked")
+    void upload_CompletesPartsInOrder() {
+        stubUploadPart(0);
+
+        uploader.upload("test-bucket", "videos/a.mp4", "video/mp4", null,
+                new ByteArrayInputStream(new byte[FILE_SIZE]), FILE_SIZE, (key, transferred, total) -> {});
+
+        ArgumentCaptor<Consumer<CompleteMultipartUploadRequest.Builder>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(s3Client).completeMultipartUpload(captor.capture());
+        CompleteMultipartUploadRequest.Builder builder = CompleteMultipartUploadRequest.builder();
+        captor.getValue().accept(builder);
+        CompleteMultipartUploadRequest request = builder.build();
+
+        assertThat(request.uploadId()).isEqualTo(UPLOAD_ID);
+        List<CompletedPart> parts = request.multipartUpload().parts();
+        assertThat(parts).extracting(CompletedPart::partNumber).containsExactly(1, 2, 3);
+        assertThat(parts).extracting(CompletedPart::eTag).containsExactly("etag-1", "etag-2", "etag-3");
+        verify(s3Client, never()).abortMultipartUpload(any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("2. 실패: 한 파트가 재시도 끝에도 실패하면 complete 없이 업로드를 abort 한다")
+    @SuppressWarnings("unchecked")
+    void upload_AbortsWhenPartFails() {
+        stubUploadPart(2);
+
+        assertThatThrownBy(() -> uploader.upload("test-bucket", "videos/a.mp4", "video/mp4", null,
+                new ByteArrayInputStream(new byte[FILE_SIZE]), FILE_SIZE, (key, transferred, total) -> {}))
+                .isInstanceOf(CustomException.class);
+
+        ArgumentCaptor<Consumer<AbortMultipartUploadRequest.Builder>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(s3Client).abortMultipartUpload(captor.capture());
+        AbortMultipartUploadRequest.Builder builder = AbortMultipartUploadRequest.builder();
+        captor.getValue().accept(builder);
+        assertThat(builder.build().uploadId()).isEqualTo(UPLOAD_ID);
+
+        verify(s3Client, never()).completeMultipartUpload(any(Consumer.class));
+        // maxAttempts(2) 만큼 재시도한 뒤 포기한다
+        verify(s3Client, atLeast(2)).uploadPart(any(Consumer.class), any(RequestBody.class));
+    }
+
+    // failingPart 번 파트는 매번 실패하고, 나머지는 파트 번호로 만든 ETag 를 돌려준다 (0 이면 모두 성공)
+    @SuppressWarnings("unchecked")
+    private void stubUploadPart(int failingPart) {
+        when(s3Client.uploadPart(any(Consumer.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest.Builder builder = UploadPartRequest.builder();
+            ((Consumer<UploadPartRequest.Builder>) invocation.getArgument(0)).accept(builder);
+            int partNumber = builder.build().partNumber();
+            if (partNumber == failingPart) {
+                throw SdkException.builder().message("part " + partNumber + " failed").build();
+            }
+            return UploadPartResponse.builder().eTag("etag-" + partNumber).build();
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.teamloci.loci.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class S3UploadServiceTest {
+
+    private S3Presigner presigner;
+    private S3UploadService s3UploadService;
+
+    @BeforeEach
+    void setUp() {
+        presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test-access", "test-secret")))
+                .build();
+        s3UploadService = new S3UploadService(
+                mock(S3Client.class), mock(S3MultipartUploader.class), presigner, mock(S3DeletionQueue.class));
+        ReflectionTestUtils.setField(s3UploadService, "bucket", "test-bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        presigner.close();
+    }
+
+    @Test
+    @DisplayName("presigned PUT 은 클라이언트가 보내는 헤더(Content-Type, Content-Length)와 host 만 서명한다")
+    void presignPut_SignsOnlyClientHeaders() {
+        String url = s3UploadService.presignPut("posts/a.jpg", "image/jpeg", 1024L, Duration.ofMinutes(10));
+
+        String signedHeaders = UriComponentsBuilder.fromUriString(url).build()
+                .getQueryParams().getFirst("X-Amz-SignedHeaders");
+        List<String> headers = Arrays.asList(signedHeaders.split("%3B|;"));
+
+        assertThat(headers).contains("host", "content-type")
+                .isSubsetOf("host", "content-type", "content-length")
+                .doesNotContain("cache-control");
+    }
+}
@@ -0,0 +1,124 @@
+package com.teamloci.loci.service;
+
+import com.teamloci.loci.global.util.HangulUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UserSearchIndexTest {
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserSearchIndex();
+        index.put(1L, "happy_quokka", "행복한 쿼카");
+        index.put(2L, "sleepy_cat", "졸린 고양이");
+        index.put(3L, "hangang", "Han River");
+    }
+
+    @Test
+    @DisplayName("1. 자모 분해: 겹모음/겹받침과 음절을 낱자모로 푼다")
+    void toJamo() {
+        assertThat(HangulUtils.toJamo("쿼카")).isEqualTo("ㅋㅜㅓㅋㅏ");
+        assertThat(HangulUtils.toJamo("값")).isEqualTo("ㄱㅏㅂㅅ");
+        assertThat(HangulUtils.toJamo("Han River")).isEqualTo("hanriver");
+        assertThat(HangulUtils.toChoseong("행복한 쿼카")).isEqualTo("ㅎㅂㅎㅋㅋ");
+    }
+
+    @Test
+    @DisplayName("2. 핸들 접두사: 대소문자 구분 없이 찾고, 핸들 일치가 닉네임 일치보다 먼저 온다")
+    void searchByHandle() {
+        assertThat(index.search("HA", 0, 10).userIds()).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("3. 한글 닉네임: 입력 중인 글자, 초성, 두 번째 단어로도 찾는다")
+    void searchByKoreanNickname() {
+        assertThat(index.search("행ㅂ", 0, 10).userIds()).containsExactly(1L);
+        assertThat(index.search("ㅎㅂ", 0, 10).userIds()).containsExactly(1L);
+        assertThat(index.search("쿼", 0, 10).userIds()).containsExactly(1L);
+        assertThat(index.search("고양", 0, 10).userIds()).containsExactly(2L);
+        assertThat(index.search("양이", 0, 10).userIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("4. 프로필 변경/탈퇴: 이전 키는 지워지고 새 키로만 찾는다")
+    void updateAndRemove() {
+        index.put(1L, "new_quokka", "새로운 닉네임");
+
+        assertThat(index.search("happy", 0, 10).userIds()).isEmpty();
+        assertThat(index.search("행복", 0, 10).userIds()).isEmpty();
+        assertThat(index.search("새로", 0, 10).userIds()).containsExactly(1L);
+
+        index.remove(2L);
+
+        assertThat(index.search("sleepy", 0, 10).userIds()).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("5. 페이지: 같은 유저는 한 번만 나오고, 다음 페이지 여부를 알려준다")
+    void paging() {
+        for (long id = 10; id < 15; id++) {
+            index.put(id, "kim" + id, "김철수 " + id);
+        }
+
+        UserSearchIndex.Page first = index.search("kim", 0, 3);
+        UserSearchIndex.Page second = index.search("kim", 3, 3);
+
+        assertThat(first.userIds()).containsExactly(10L, 11L, 12L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.userIds()).containsExactly(13L, 14L);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(index.search("김", 0, 10).userIds()).hasSize(5).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("5-1. 페이지 범위: 음수 offset 은 거부하고, 아주 큰 offset 도 넘치지 않고 빈 페이지를 준다")
+    void pagingBounds() {
+        assertThatThrownBy(() -> index.search("ha", -1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        UserSearchIndex.Page page = index.search("ha", Integer.MAX_VALUE - 5, 50);
+        assertThat(page.userIds()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("6. 재구축: 교체 전까지 기존 인덱스로 검색하고, 그 사이 변경도 새 인덱스에 남는다")
+    void rebuild() {
+        index.beginRebuild();
+        index.load(1L, "happy_quokka", "행복한 쿼카");
+        index.put(4L, "new_user", "새 유저");
+
+        assertThat(index.search("sleepy", 0, 10).userIds()).containsExactly(2L);
+
+        index.finishRebuild();
+
+        assertThat(index.search("sleepy", 0, 10).userIds()).isEmpty();
+        assertThat(index.search("happy", 0, 10).userIds()).containsExactly(1L);
+        assertThat(index.search("new", 0, 10).userIds()).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("7. 재구축 경합: 재구축 중 바뀐 유저는 그보다 먼저 읽은 DB 행으로 덮어쓰지 않는다")
+    void rebuildKeepsLiveUpdates() {
+        index.beginRebuild();
+        index.put(1L, "renamed_quokka", "이름 바뀐 쿼카");
+        index.remove(2L);
+
+        // 재구축 스트림은 변경 이전 스냅샷에서 읽은 행을 늦게 넘겨준다
+        index.load(1L, "happy_quokka", "행복한 쿼카");
+        index.load(2L, "sleepy_cat", "졸린 고양이");
+        index.load(3L, "hangang", "Han River");
+        index.finishRebuild();
+
+        assertThat(index.search("happy", 0, 10).userIds()).isEmpty();
+        assertThat(index.search("renamed", 0, 10).userIds()).containsExactly(1L);
+        assertThat(index.search("sleepy", 0, 10).userIds()).isEmpty();
+        assertThat(index.search("hangang", 0, 10).userIds()).containsExactly(3L);
+    }
+}